@@ -0,0 +1,74 @@
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Stub REST client with fixed latency, standing in for a local stub server
+ */
+class SlowStubRestAPIClient extends RestAPIClient {
+    @Override
+    void authenticate(String token) {}
+
+    @Override
+    String fetchData(String endpoint) {
+        LockSupport.parkNanos(1_000_000);  // 1ms round trip
+        return endpoint;
+    }
+}
+
+/**
+ * Blocking vs async adapter for 50 lookups
+ * Average time per batch - lower is better
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class APIAdapterBenchmarks {
+    private final List<String> queries = IntStream.range(0, 50)
+        .mapToObj(i -> "getUserData?id=" + i)
+        .collect(Collectors.toList());
+    private APIAdapter blocking;
+    private AsyncRestAPIAdapter async;
+
+    @Setup
+    public void setup() {
+        blocking = new RestAPIAdapter(new SlowStubRestAPIClient());
+        async = new AsyncRestAPIAdapter(new SlowStubRestAPIClient(), 16, Duration.ofSeconds(5));
+    }
+
+    @TearDown
+    public void tearDown() {
+        async.shutdown();
+    }
+
+    @Benchmark
+    public void blocking50(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(blocking.fetchData(query));
+        }
+    }
+
+    @Benchmark
+    public List<String> async50() {
+        return AsyncAPIAdapter.fetchAll(async, queries).join();
+    }
+}
@@ -0,0 +1,36 @@
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the hot-path benchmarks at 1, 2, 4 ... N threads
+ * JMH's -t takes a single value, so the sweep is driven from here
+ */
+public class BenchmarkSweep {
+    public static void main(String[] args) throws RunnerException {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            run(PatternBenchmarks.class.getSimpleName() + "|" + ContentionBenchmarks.class.getSimpleName(),
+                threads, "target/jmh-results-t" + threads + ".json");
+            if (threads == maxThreads) {
+                break;
+            }
+        }
+        // Latency-bound comparison - one thread is enough
+        run(APIAdapterBenchmarks.class.getSimpleName(), 1, "target/jmh-results-api.json");
+    }
+
+    private static void run(String include, int threads, String resultFile) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(include)
+            .threads(threads)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,52 @@
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Singleton and Observer hot paths on shared state
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentionBenchmarks {
+    private TestExecution execution;
+
+    @Setup
+    public void setup() {
+        WebDriverManager.setDriverFactory(browser -> new StubWebDriver());
+
+        execution = new TestExecution();
+        execution.addObserver((event, message) -> {});
+        execution.addObserver((event, message) -> {});
+        execution.addObserver((event, message) -> {});
+    }
+
+    @TearDown
+    public void tearDown() {
+        WebDriverManager.quitDriver();
+    }
+
+    @Benchmark
+    public WebDriver getDriver() {
+        return WebDriverManager.getDriver("chrome");
+    }
+
+    @Benchmark
+    public void notifyObservers() {
+        execution.runTest();  // Four notifications per run
+    }
+}
@@ -0,0 +1,185 @@
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * JMH benchmarks for the pattern hot paths
+ * All benchmarks run against stub drivers - no real browser is launched
+ *
+ * Not runnable from this tree as-is: the pattern snippets under src/test/java
+ * don't compile as one module (no imports, repeated class names such as User
+ * and TestExecution). Copy this directory and the classes it measures into a
+ * compilable module, then run: mvn -P benchmark test-compile exec:exec
+ * BenchmarkSweep runs every hot path at 1, 2, 4 ... N threads with the
+ * gc profiler (allocation rate) and writes one JSON file per thread count
+ */
+
+/**
+ * Stub driver that does no I/O
+ * Isolates pattern overhead from browser latency
+ */
+class StubWebDriver implements WebDriver {
+    @Override
+    public void get(String url) {
+        // No-op
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        throw new NoSuchElementException("Stub driver has no elements: " + by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+        // No-op
+    }
+
+    @Override
+    public void quit() {
+        // No-op
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    // Not used by the benchmarked code paths
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+/**
+ * Stub for the Proxy pattern's Browser (navigate/type/click)
+ * Not the OCP Browser used by BrowserFactory
+ */
+class StubProxyBrowser implements Browser {
+    @Override
+    public void navigate(String url) {}
+
+    @Override
+    public void type(By locator, String text) {}
+
+    @Override
+    public void click(By locator) {}
+}
+
+/**
+ * Proxy, Decorator, Factory and Test Data hot paths
+ * State is shared, so runs with more threads show contention
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternBenchmarks {
+    private final By username = By.id("username");
+    private BrowserProxy proxy;
+    private TestRunner decorated;
+    private BrowserFactory browserFactory;
+
+    @Setup
+    public void setup() {
+        proxy = new BrowserProxy(new StubProxyBrowser());
+
+        // Five layers, as in our larger suites
+        TestRunner runner = () -> {};
+        for (int i = 0; i < 5; i++) {
+            runner = new TestDecorator(runner);
+        }
+        decorated = runner;
+
+        browserFactory = new BrowserFactory();
+    }
+
+    @Benchmark
+    public void proxyClick() {
+        proxy.click(username);
+    }
+
+    @Benchmark
+    public void proxyType() {
+        proxy.type(username, "testuser");
+    }
+
+    @Benchmark
+    public void decoratorStack() {
+        decorated.runTest();
+    }
+
+    // Consumed through the Blackhole; the OCP Browser type isn't named in this file
+    @Benchmark
+    public void browserFactoryLookup(Blackhole blackhole) {
+        blackhole.consume(browserFactory.getBrowser("Chrome"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<User> multipleUsers() {
+        return UserTestDataFactory.multipleUsers(1_000);
+    }
+}
+
+/* What to Look For:
+ * 1. Throughput (ops/us) - higher is better
+ * 2. gc.alloc.rate.norm - bytes allocated per call, ideally 0
+ * 3. Throughput per thread as threads grow - a drop means contention
+ *
+ * Results are written to target/jmh-results-t<threads>.json so runs can be diffed
+ */
@@ -64,12 +64,100 @@ class RestAPIAdapter implements APIAdapter {
     }
 }
 
+/**
+ * Parsed "username:password" value
+ * Parsing uses indexOf/substring - no regex, no array
+ * Nothing is cached globally, so raw secrets aren't kept for the life of the JVM
+ */
+final class Credentials {
+    private final String username;
+    private final String password;
+
+    private Credentials(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Parses "username:password"
+     * @throws IllegalArgumentException if raw is null or has no ':' separator
+     */
+    public static Credentials of(String raw) {
+        if (raw == null) {
+            throw new IllegalArgumentException("Credentials must not be null");
+        }
+        int separator = raw.indexOf(':');
+        if (separator <= 0) {
+            // Message leaves out the raw value so passwords don't end up in logs
+            throw new IllegalArgumentException("Credentials must be in 'username:password' form");
+        }
+        return new Credentials(raw.substring(0, separator), raw.substring(separator + 1));
+    }
+
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+
+    // True if raw is exactly "username:password" - compares in place, allocates nothing
+    boolean matches(String raw) {
+        return raw != null
+            && raw.length() == username.length() + 1 + password.length()
+            && raw.startsWith(username)
+            && raw.charAt(username.length()) == ':'
+            && raw.endsWith(password);
+    }
+
+    @Override
+    public String toString() {
+        return username + ":****";
+    }
+}
+
+/**
+ * Named credential sets loaded once from a local properties file
+ * e.g. soap.admin=admin:secret
+ */
+class CredentialStore {
+    private final Map<String, Credentials> byName;
+
+    public CredentialStore(Path file) throws IOException {
+        checkNotWorldReadable(file);
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, Credentials> loaded = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            loaded.put(name, Credentials.of(properties.getProperty(name)));
+        }
+        this.byName = Collections.unmodifiableMap(loaded);
+    }
+
+    public Credentials get(String name) {
+        Credentials credentials = byName.get(name);
+        if (credentials == null) {
+            throw new IllegalArgumentException("No credentials named: " + name);
+        }
+        return credentials;
+    }
+
+    // Refuses secrets that every user on the machine can read
+    private static void checkNotWorldReadable(Path file) throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        if (Files.getPosixFilePermissions(file).contains(PosixFilePermission.OTHERS_READ)) {
+            throw new IllegalStateException("Credential file is world-readable: " + file);
+        }
+    }
+}
+
 /**
  * Adapter for SOAP API
  * Shows more complex adaptation when interfaces differ significantly
  */
 class SoapAPIAdapter implements APIAdapter {
     private SoapAPIClient soapClient;
+    private volatile Credentials lastCredentials;  // Scoped to this adapter
 
     public SoapAPIAdapter(SoapAPIClient soapClient) {
         this.soapClient = soapClient;
@@ -78,8 +166,17 @@ class SoapAPIAdapter implements APIAdapter {
     @Override
     public void authenticate(String credentials) {
         // Transform single credential string into username/password
-        String[] parts = credentials.split(":");
-        soapClient.login(parts[0], parts[1]);
+        Credentials parsed = lastCredentials;
+        if (parsed == null || !parsed.matches(credentials)) {
+            parsed = Credentials.of(credentials);  // Only when the credentials change
+            lastCredentials = parsed;
+        }
+        authenticate(parsed);
+    }
+
+    // Fast path for credentials already parsed, e.g. from a CredentialStore
+    public void authenticate(Credentials credentials) {
+        soapClient.login(credentials.getUsername(), credentials.getPassword());
     }
 
     @Override
@@ -89,6 +186,343 @@ class SoapAPIAdapter implements APIAdapter {
     }
 }
 
+/**
+ * Non-blocking version of the common API interface
+ * Calls return immediately; results arrive through the future
+ */
+interface AsyncAPIAdapter {
+    CompletableFuture<Void> authenticate(String credentials);
+    CompletableFuture<String> fetchData(String query);
+
+    /**
+     * Fan-out/fan-in: sends every query at once, completes when all are back
+     * Results keep the order of the queries
+     */
+    static CompletableFuture<List<String>> fetchAll(AsyncAPIAdapter api, List<String> queries) {
+        List<CompletableFuture<String>> calls = new ArrayList<>(queries.size());
+        queries.forEach(query -> calls.add(api.fetchData(query)));
+        return CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                List<String> results = new ArrayList<>(calls.size());
+                calls.forEach(call -> results.add(call.join()));
+                return results;
+            });
+    }
+}
+
+/**
+ * Shared plumbing for async adapters
+ * Each backend gets its own fixed pool, so its thread count is the
+ * concurrency limit; calls slower than the timeout fail with TimeoutException
+ */
+abstract class AbstractAsyncAPIAdapter implements AsyncAPIAdapter {
+    private static final ScheduledExecutorService timer =
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "api-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final ExecutorService backend;
+    private final Duration timeout;
+
+    protected AbstractAsyncAPIAdapter(int maxConcurrentCalls, Duration timeout) {
+        this.backend = Executors.newFixedThreadPool(maxConcurrentCalls);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Runs the call on the backend pool
+     * The timeout starts when the call starts, not while it waits in the queue,
+     * and a timed-out call is interrupted so it gives its thread back
+     */
+    protected <T> CompletableFuture<T> call(Supplier<T> blockingCall) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<?>[] self = new FutureTask<?>[1];
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            ScheduledFuture<?> timeoutTask = timer.schedule(() -> {
+                if (result.completeExceptionally(new TimeoutException("API call timed out"))) {
+                    self[0].cancel(true);
+                }
+            }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                result.complete(blockingCall.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                timeoutTask.cancel(false);
+            }
+            return null;
+        });
+        self[0] = task;
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);  // Caller gave up - don't keep the backend busy
+            }
+        });
+        backend.execute(task);
+        return result;
+    }
+
+    public void shutdown() {
+        backend.shutdown();
+    }
+}
+
+/**
+ * Async adapter for REST API
+ */
+class AsyncRestAPIAdapter extends AbstractAsyncAPIAdapter {
+    private final RestAPIClient restClient;
+
+    public AsyncRestAPIAdapter(RestAPIClient restClient, int maxConcurrentCalls, Duration timeout) {
+        super(maxConcurrentCalls, timeout);
+        this.restClient = restClient;
+    }
+
+    @Override
+    public CompletableFuture<Void> authenticate(String credentials) {
+        return call(() -> {
+            restClient.authenticate(credentials);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> fetchData(String query) {
+        return call(() -> restClient.fetchData(query));
+    }
+}
+
+/**
+ * Async adapter for SOAP API
+ * Same credential conversion as SoapAPIAdapter
+ */
+class AsyncSoapAPIAdapter extends AbstractAsyncAPIAdapter {
+    private final SoapAPIClient soapClient;
+
+    public AsyncSoapAPIAdapter(SoapAPIClient soapClient, int maxConcurrentCalls, Duration timeout) {
+        super(maxConcurrentCalls, timeout);
+        this.soapClient = soapClient;
+    }
+
+    @Override
+    public CompletableFuture<Void> authenticate(String credentials) {
+        return call(() -> {
+            Credentials parsed = Credentials.of(credentials);
+            soapClient.login(parsed.getUsername(), parsed.getPassword());
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> fetchData(String query) {
+        return call(() -> soapClient.retrieveData(query));
+    }
+}
+
+/**
+ * Caching decorator for any APIAdapter
+ * - Skips re-authentication until the session expires
+ * - LRU + TTL cache for idempotent fetchData queries
+ * - Identical concurrent queries share one backend call
+ * Cached and in-flight responses belong to the current login, so
+ * switching credentials never serves another user's data
+ */
+class CachingAPIAdapter implements APIAdapter {
+    private final APIAdapter delegate;
+    private final long authTtlNanos;
+    private final long dataTtlNanos;
+    private final Map<CacheKey, CachedResponse> responses;
+    private final Map<CacheKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService batchExecutor;
+
+    private String authenticatedAs;
+    private long authExpiresAt;
+    private volatile long session;  // Bumped whenever the credentials change
+
+    public CachingAPIAdapter(APIAdapter delegate, Duration authTtl, Duration dataTtl,
+                             int maxEntries, ExecutorService batchExecutor) {
+        this.delegate = delegate;
+        this.authTtlNanos = authTtl.toNanos();
+        this.dataTtlNanos = dataTtl.toNanos();
+        this.batchExecutor = batchExecutor;
+        // Access-ordered LinkedHashMap evicts the least recently used entry
+        this.responses = new LinkedHashMap<CacheKey, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void authenticate(String credentials) {
+        long now = System.nanoTime();
+        if (credentials.equals(authenticatedAs) && now - authExpiresAt < 0) {
+            return;  // Still logged in with the same credentials
+        }
+        delegate.authenticate(credentials);
+        if (!credentials.equals(authenticatedAs)) {
+            session++;  // Older entries can't be hit any more, so drop them
+            synchronized (responses) {
+                responses.clear();
+            }
+        }
+        authenticatedAs = credentials;
+        authExpiresAt = now + authTtlNanos;
+    }
+
+    @Override
+    public String fetchData(String query) {
+        CacheKey key = new CacheKey(session, query);
+        String cached = cachedResponse(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return join(existing);  // Someone is already fetching this query
+        }
+        try {
+            // The previous owner may have cached and left between our miss and putIfAbsent
+            String data = cachedResponse(key);
+            if (data != null) {
+                mine.complete(data);
+                return data;
+            }
+            data = delegate.fetchData(query);
+            synchronized (responses) {
+                responses.put(key, new CachedResponse(data, System.nanoTime() + dataTtlNanos));
+            }
+            mine.complete(data);
+            return data;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    // Rethrows the original exception rather than a CompletionException
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Issues all queries concurrently and returns results in input order
+     * Duplicates and cached queries don't reach the backend
+     */
+    public List<String> fetchAll(List<String> queries) {
+        List<CompletableFuture<String>> pending = new ArrayList<>(queries.size());
+        for (String query : queries) {
+            pending.add(CompletableFuture.supplyAsync(() -> fetchData(query), batchExecutor));
+        }
+        List<String> results = new ArrayList<>(queries.size());
+        for (CompletableFuture<String> future : pending) {
+            results.add(join(future));  // Same exception type as fetchData
+        }
+        return results;
+    }
+
+    private String cachedResponse(CacheKey key) {
+        synchronized (responses) {
+            CachedResponse cached = responses.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.expiresAt >= 0) {
+                responses.remove(key);  // Expired
+                return null;
+            }
+            return cached.data;
+        }
+    }
+
+    // Query scoped to the login it was made under
+    private static final class CacheKey {
+        final long session;
+        final String query;
+
+        CacheKey(long session, String query) {
+            this.session = session;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return session == other.session && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(session) + query.hashCode();
+        }
+    }
+
+    private static class CachedResponse {
+        final String data;
+        final long expiresAt;
+
+        CachedResponse(String data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
+
+/**
+ * Local stub clients for tests - no network, just call counting
+ */
+class StubRestAPIClient extends RestAPIClient {
+    final AtomicInteger authCalls = new AtomicInteger();
+    final AtomicInteger fetchCalls = new AtomicInteger();
+
+    @Override
+    void authenticate(String token) {
+        authCalls.incrementAndGet();
+    }
+
+    @Override
+    String fetchData(String endpoint) {
+        fetchCalls.incrementAndGet();
+        return "Stub REST Data from: " + endpoint;
+    }
+}
+
+class StubSoapAPIClient extends SoapAPIClient {
+    final AtomicInteger loginCalls = new AtomicInteger();
+    final AtomicInteger retrieveCalls = new AtomicInteger();
+
+    @Override
+    void login(String username, String password) {
+        loginCalls.incrementAndGet();
+    }
+
+    @Override
+    String retrieveData(String operation) {
+        retrieveCalls.incrementAndGet();
+        return "Stub SOAP Data from: " + operation;
+    }
+}
+
 /**
  * Test class showing how adapters enable uniform API usage
  */
@@ -100,6 +534,23 @@ public class APITest {
         System.out.println(data);
     }
 
+    /**
+     * REST and SOAP run at the same time; 50 lookups cost about one round trip
+     */
+    public void testAPIsAsync(AsyncAPIAdapter rest, AsyncAPIAdapter soap) {
+        List<String> queries = IntStream.range(0, 50)
+            .mapToObj(i -> "getUserData?id=" + i)
+            .collect(Collectors.toList());
+
+        CompletableFuture<List<String>> restData = rest.authenticate("test:password")
+            .thenCompose(ignored -> AsyncAPIAdapter.fetchAll(rest, queries));
+        CompletableFuture<List<String>> soapData = soap.authenticate("test:password")
+            .thenCompose(ignored -> AsyncAPIAdapter.fetchAll(soap, queries));
+
+        restData.thenAcceptBoth(soapData, (r, s) ->
+            System.out.println(r.size() + " REST and " + s.size() + " SOAP results")).join();
+    }
+
     public static void main(String[] args) {
         APITest test = new APITest();
 
@@ -110,6 +561,24 @@ public class APITest {
         // Using SOAP API with same test code
         SoapAPIAdapter soapAdapter = new SoapAPIAdapter(new SoapAPIClient());
         test.testAPI(soapAdapter);
+
+        // Caching decorator over a stub client
+        StubRestAPIClient stub = new StubRestAPIClient();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CachingAPIAdapter cached = new CachingAPIAdapter(new RestAPIAdapter(stub),
+            Duration.ofMinutes(30), Duration.ofSeconds(60), 1_000, pool);
+        for (int i = 0; i < 10; i++) {
+            test.testAPI(cached);
+        }
+        cached.fetchAll(Arrays.asList("getUserData", "getOrders", "getOrders"));
+        // 1 auth call and 2 fetch calls instead of 10 and 13
+        System.out.println("auth=" + stub.authCalls + " fetch=" + stub.fetchCalls);
+
+        // Another user never sees the first user's cached data
+        cached.authenticate("other:password");
+        cached.fetchData("getUserData");  // Goes to the backend again: fetch=3
+        System.out.println("auth=" + stub.authCalls + " fetch=" + stub.fetchCalls);
+        pool.shutdown();
     }
 }
 
@@ -126,4 +595,7 @@ public class APITest {
  * 2. Simpler test maintenance
  * 3. Support multiple API versions
  * 4. Clean separation of concerns
+ * 5. Caching, batching and request coalescing added once for every API
+ * 6. Async adapters let tests fan out many calls across backends
+ * 7. Credentials parsed without regex, loaded once from a local store
  */
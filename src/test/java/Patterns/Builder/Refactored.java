@@ -3,44 +3,93 @@
  * Shows how to create objects step by step
  */
 public class User {
-    // Private fields - can't be modified directly
-    private String name;
-    private String email;
-    private int age;
-    private String country;
+    // Final fields - a built User can't change
+    private final String name;
+    private final String email;
+    private final int age;
+    private final String country;
+
+    // Only the builder creates Users
+    private User(UserBuilder builder) {
+        this.name = builder.name;
+        this.email = builder.email;
+        this.age = builder.age;
+        this.country = builder.country;
+    }
+
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public int getAge() { return age; }
+    public String getCountry() { return country; }
 
     /**
      * Static Builder class
      * Provides flexible, readable way to construct User objects
+     * Each create() returns a new User, so one builder can be reused
      */
     public static class UserBuilder {
-        // Instance being built
-        private User user = new User();
+        // Shared copies of low-cardinality values like "USA" or "UK"
+        private static final int MAX_INTERNED = 1024;
+        private static final Map<String, String> INTERNED = new ConcurrentHashMap<>();
+
+        // Values collected until create() is called
+        private String name;
+        private String email;
+        private int age;
+        private String country;
 
         // Builder methods - each returns 'this' for method chaining
         public UserBuilder name(String name) {
-            user.name = name;
+            this.name = name;
             return this;  // Returns builder for chaining
         }
 
         public UserBuilder email(String email) {
-            user.email = email;
+            this.email = email;
             return this;
         }
 
         public UserBuilder age(int age) {
-            user.age = age;
+            this.age = age;
             return this;
         }
 
         public UserBuilder country(String country) {
-            user.country = country;
+            this.country = intern(country);
             return this;
         }
 
         // Final method to get the built User object
         public User create() {
-            return user;
+            return new User(this);
+        }
+
+        /**
+         * Clears all fields so the builder can be reused
+         * Saves one builder allocation per user in bulk fixtures
+         */
+        public UserBuilder reset() {
+            name = null;
+            email = null;
+            age = 0;
+            country = null;
+            return this;
+        }
+
+        // Returns the shared copy; stops growing if the field turns out not to be low-cardinality
+        private static String intern(String value) {
+            if (value == null) {
+                return null;
+            }
+            String shared = INTERNED.get(value);
+            if (shared != null) {
+                return shared;
+            }
+            if (INTERNED.size() >= MAX_INTERNED) {
+                return value;
+            }
+            shared = INTERNED.putIfAbsent(value, value);
+            return shared == null ? value : shared;
         }
     }
 
@@ -59,12 +108,23 @@ public class User {
             .country("UK")        // Another field
             .create();           // Skip optional fields
 
+        // Example 3: Bulk fixtures reuse one builder
+        UserBuilder builder = new UserBuilder();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            users.add(builder.reset()
+                .name("user" + i)
+                .country(i % 2 == 0 ? "USA" : "UK")  // Every User shares two strings
+                .create());
+        }
+
         /* Benefits shown here:
          * 1. Clear what each setter does
          * 2. Can set fields in any order
          * 3. Optional fields can be skipped
          * 4. Method chaining makes code readable
          * 5. Object creation is controlled and clear
+         * 6. Built objects are immutable, so builder reuse is safe
          */
     }
 }
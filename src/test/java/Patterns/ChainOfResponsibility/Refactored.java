@@ -7,27 +7,174 @@ abstract class TestValidator {
         return validator;
     }
 
-    public abstract boolean validate(TestContext context);
+    public boolean validate(TestContext context) {
+        if (!check(context)) {
+            return false;
+        }
+        return nextValidator == null || nextValidator.validate(context);
+    }
+
+    // This validator's own check, without walking the chain
+    protected abstract boolean check(TestContext context);
 }
 
 // Step 2: Create concrete validators
 class BrowserValidator extends TestValidator {
     @Override
-    public boolean validate(TestContext context) {
-        if (!checkBrowser()) {
-            return false;
-        }
-        return nextValidator == null || nextValidator.validate(context);
+    protected boolean check(TestContext context) {
+        return checkBrowser();
     }
 }
 
 class EnvironmentValidator extends TestValidator {
     @Override
+    protected boolean check(TestContext context) {
+        return checkEnvironment();
+    }
+}
+
+// Step 2b: Parallel engine for validators that don't depend on each other
+class ValidationEngine {
+    private final List<Step> steps = new ArrayList<>();
+    private final Map<String, Step> byName = new HashMap<>();
+    private final Map<String, CachedResult> cache = new ConcurrentHashMap<>();
+    private final ForkJoinPool pool;
+
+    public ValidationEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Registers a validator with its relative cost and dependencies
+     * Dependencies must be registered first
+     */
+    public ValidationEngine register(String name, TestValidator validator,
+                                     int cost, String... dependsOn) {
+        return register(name, validator, cost, Duration.ZERO, dependsOn);
+    }
+
+    /**
+     * Same as above, but results are reused across tests for cacheTtl
+     * Use for environment-level checks that don't depend on the test
+     */
+    public ValidationEngine register(String name, TestValidator validator, int cost,
+                                     Duration cacheTtl, String... dependsOn) {
+        int depth = 0;
+        for (String dependency : dependsOn) {
+            Step parent = byName.get(dependency);
+            if (parent == null) {
+                throw new IllegalArgumentException("Unknown dependency: " + dependency);
+            }
+            depth = Math.max(depth, parent.depth + 1);
+        }
+        Step step = new Step(name, validator, cost, cacheTtl, dependsOn, depth);
+        steps.add(step);
+        byName.put(name, step);
+        // Shallow steps first, expensive ones first within a level
+        steps.sort(Comparator.comparingInt((Step s) -> s.depth)
+            .thenComparing(s -> -s.cost));
+        return this;
+    }
+
+    /**
+     * Runs independent validators concurrently
+     * The first failure completes the result and cancels the rest
+     * A validator that throws fails validation with that exception, as in the chain
+     */
     public boolean validate(TestContext context) {
-        if (!checkEnvironment()) {
-            return false;
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        Map<String, CompletableFuture<Boolean>> running = new HashMap<>();
+
+        for (Step step : steps) {
+            CompletableFuture<?>[] parents = Arrays.stream(step.dependsOn)
+                .map(running::get)
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture<Boolean> future = CompletableFuture.allOf(parents)
+                .thenApplyAsync(ignored -> !failed.get() && run(step, context), pool);
+            running.put(step.name, future);
+        }
+
+        // Handlers are attached only once the map is complete, so pool threads
+        // never read it while this thread is still writing
+        List<CompletableFuture<Boolean>> all = new ArrayList<>(running.values());
+        for (CompletableFuture<Boolean> future : all) {
+            future.whenComplete((passed, error) -> {
+                if (error != null || !passed) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause != null && !(cause instanceof CancellationException)) {
+                        firstError.compareAndSet(null, cause);  // Our own cancels aren't errors
+                    }
+                    failed.set(true);
+                    result.complete(false);
+                    all.forEach(f -> f.cancel(false));
+                }
+            });
+        }
+
+        CompletableFuture.allOf(running.values().toArray(new CompletableFuture[0]))
+            .whenComplete((ignored, error) -> result.complete(!failed.get()));
+        boolean passed = result.join();
+        Throwable error = firstError.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Validator failed", error);
+        }
+        return passed;
+    }
+
+    private boolean run(Step step, TestContext context) {
+        if (step.cacheTtl.isZero()) {
+            return step.validator.check(context);
+        }
+        long now = System.nanoTime();
+        CachedResult cached = cache.get(step.name);
+        if (cached != null && now - cached.expiresAt < 0) {
+            return cached.passed;
+        }
+        boolean passed = step.validator.check(context);
+        cache.put(step.name, new CachedResult(passed, now + step.cacheTtl.toNanos()));
+        return passed;
+    }
+
+    // Forces environment checks to run again on the next test
+    public void invalidateCache() {
+        cache.clear();
+    }
+
+    private static class Step {
+        final String name;
+        final TestValidator validator;
+        final int cost;
+        final Duration cacheTtl;
+        final String[] dependsOn;
+        final int depth;
+
+        Step(String name, TestValidator validator, int cost,
+             Duration cacheTtl, String[] dependsOn, int depth) {
+            this.name = name;
+            this.validator = validator;
+            this.cost = cost;
+            this.cacheTtl = cacheTtl;
+            this.dependsOn = dependsOn;
+            this.depth = depth;
+        }
+    }
+
+    private static class CachedResult {
+        final boolean passed;
+        final long expiresAt;
+
+        CachedResult(boolean passed, long expiresAt) {
+            this.passed = passed;
+            this.expiresAt = expiresAt;
         }
-        return nextValidator == null || nextValidator.validate(context);
     }
 }
 
@@ -54,6 +201,24 @@ public class TestExecution {
     }
 }
 
+// Step 4: Same validators run through the parallel engine
+public class ParallelTestExecution {
+    private static final ValidationEngine engine =
+        new ValidationEngine(ForkJoinPool.commonPool())
+            .register("browser", new BrowserValidator(), 3)
+            .register("environment", new EnvironmentValidator(), 5, Duration.ofMinutes(5))
+            .register("data", new DataValidator(), 2, "environment")
+            .register("permission", new PermissionValidator(), 1);
+
+    @Test
+    public void runTest() {
+        TestContext context = new TestContext();
+        if (engine.validate(context)) {
+            runActualTest();
+        }
+    }
+}
+
 /*
 Key Changes:
 1. Each validation in separate class
@@ -63,4 +228,6 @@ Key Changes:
 5. Dynamic validation order
 6. Single Responsibility Principle followed
 7. Clean test methods
+8. Independent validators can run in parallel through ValidationEngine
+9. Environment checks can be cached across tests
 */
@@ -40,6 +40,79 @@ class TestExecutor {
     public void executeAll() {
         commands.forEach(TestCommand::execute);
     }
+
+    public int size() {
+        return commands.size();
+    }
+}
+
+// Step 3b: Run independent command sequences at the same time
+class ConcurrentTestExecutor {
+    private final List<TestExecutor> sequences = new ArrayList<>();
+    private final ExecutorService executorService;
+
+    /**
+     * Any executor works; commands mostly wait on driver I/O, so
+     * Executors.newVirtualThreadPerTaskExecutor() is ideal on Java 21+
+     * and a cached thread pool is the Java 8 fallback
+     */
+    public ConcurrentTestExecutor(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    // Each sequence keeps its own command order
+    public void addSequence(TestExecutor sequence) {
+        sequences.add(sequence);
+    }
+
+    public ExecutionReport executeAll() throws InterruptedException {
+        long start = System.nanoTime();
+        List<Future<Integer>> running = new ArrayList<>();
+        for (TestExecutor sequence : sequences) {
+            running.add(executorService.submit(() -> {
+                sequence.executeAll();
+                return sequence.size();
+            }));
+        }
+
+        int commandsRun = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Integer> future : running) {
+            try {
+                commandsRun += future.get();
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());  // One failed sequence doesn't stop others
+            }
+        }
+        return new ExecutionReport(commandsRun, System.nanoTime() - start, failures);
+    }
+}
+
+// Result of a concurrent run, with throughput for comparison
+class ExecutionReport {
+    private final int commandsRun;
+    private final long elapsedNanos;
+    private final List<Throwable> failures;
+
+    ExecutionReport(int commandsRun, long elapsedNanos, List<Throwable> failures) {
+        this.commandsRun = commandsRun;
+        this.elapsedNanos = elapsedNanos;
+        this.failures = failures;
+    }
+
+    public double commandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commandsRun * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d commands in %d ms (%.1f commands/sec), %d failed sequences",
+            commandsRun, elapsedNanos / 1_000_000, commandsPerSecond(), failures.size());
+    }
 }
 
 // Step 4: Clean test using commands
@@ -56,6 +129,25 @@ public class EcommerceTest {
         // Execute all commands
         executor.executeAll();
     }
+
+    public void testCheckoutForManyUsers() throws InterruptedException {
+        ExecutorService threads = Executors.newCachedThreadPool();
+        ConcurrentTestExecutor concurrent = new ConcurrentTestExecutor(threads);
+
+        // One browser and one ordered sequence per user
+        for (int i = 0; i < 10; i++) {
+            WebDriver driver = new ChromeDriver();
+            TestExecutor sequence = new TestExecutor();
+            sequence.addCommand(new LoginCommand(driver, "user" + i, "pass"));
+            sequence.addCommand(new AddToCartCommand(driver, "product1"));
+            sequence.addCommand(new CheckoutCommand(driver));
+            concurrent.addSequence(sequence);
+        }
+
+        ExecutionReport report = concurrent.executeAll();
+        System.out.println(report);
+        threads.shutdown();
+    }
 }
 
 /*
@@ -67,4 +159,5 @@ Key Changes:
 5. Can batch commands
 6. Easy to add new commands
 7. Clean, maintainable tests
+8. Independent sequences can run concurrently on any executor
 */
@@ -38,22 +38,111 @@ class TestDecorator implements TestRunner {
         // Default behavior: just run the decorated test
         testRunner.runTest();
     }
+
+    /**
+     * Same behavior as this decorator, expressed as a pipeline hook
+     * Returns null by default: a decorator that only overrides runTest()
+     * can't be fused, so TestPipeline.fuse keeps it as a real decorator
+     */
+    public TestHook asHook() {
+        return null;
+    }
+}
+
+/**
+ * Writes screenshots to disk on a background thread
+ * Files are named by content hash, so identical frames are stored once
+ */
+class ScreenshotStore {
+    private final Path directory;
+    private final ExecutorService writer;
+
+    public ScreenshotStore(Path directory, int queueCapacity) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        // One writer thread, bounded queue; oldest pending frame is dropped when full
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    // Returns immediately - hashing, compression and I/O happen on the writer thread
+    public void persist(byte[] frame) {
+        writer.execute(() -> write(frame));
+    }
+
+    private void write(byte[] frame) {
+        try {
+            Path file = directory.resolve(sha256(frame) + ".png.gz");
+            if (Files.exists(file)) {
+                return;  // Same frame already saved
+            }
+            Path temp = Files.createTempFile(directory, "frame", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                out.write(frame);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Screenshot write failed: " + e.getMessage());
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // Always available on the JVM
+        }
+    }
+
+    // Waits for pending writes - call at the end of the suite
+    public void close() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(1, TimeUnit.MINUTES);
+    }
 }
 
 /**
  * Screenshot capability decorator
  * Adds screenshot taking before and after test execution
+ * Failure-only mode takes a single screenshot, only when the test fails,
+ * and hands it to the store; passing tests pay nothing
  */
 class ScreenshotDecorator extends TestDecorator {
+    private final Supplier<byte[]> camera;  // e.g. driver.getScreenshotAs(OutputType.BYTES)
+    private final ScreenshotStore store;
+
     public ScreenshotDecorator(TestRunner testRunner) {
+        this(testRunner, null, null);
+    }
+
+    // Failure-only mode
+    public ScreenshotDecorator(TestRunner testRunner, Supplier<byte[]> camera,
+                               ScreenshotStore store) {
         super(testRunner);
+        this.camera = camera;
+        this.store = store;
     }
 
     @Override
     public void runTest() {
-        takeScreenshotBefore();     // Added behavior before
-        testRunner.runTest();       // Original test execution
-        takeScreenshotAfter();      // Added behavior after
+        if (store == null) {
+            takeScreenshotBefore();     // Added behavior before
+            testRunner.runTest();       // Original test execution
+            takeScreenshotAfter();      // Added behavior after
+            return;
+        }
+
+        try {
+            testRunner.runTest();
+        } catch (RuntimeException | Error e) {
+            saveFailureFrame();
+            throw e;
+        }
     }
 
     private void takeScreenshotBefore() {
@@ -63,6 +152,43 @@ class ScreenshotDecorator extends TestDecorator {
     private void takeScreenshotAfter() {
         System.out.println("Taking screenshot after test");
     }
+
+    // Captures the failure state; compression and disk writes happen in the store
+    private void saveFailureFrame() {
+        try {
+            store.persist(camera.get());
+        } catch (RuntimeException e) {
+            System.out.println("Failure screenshot unavailable: " + e.getMessage());  // Browser may be gone
+        }
+    }
+
+    @Override
+    public TestHook asHook() {
+        if (store != null) {
+            return new TestHook() {
+                @Override
+                public void after(TestResult result, StringBuilder out) {
+                    if (!result.passed) {
+                        saveFailureFrame();
+                        out.append("Saved failure screenshot\n");
+                    }
+                }
+            };
+        }
+        return new TestHook() {
+            @Override
+            public void before(StringBuilder out) {
+                out.append("Taking screenshot before test\n");
+            }
+
+            @Override
+            public void after(TestResult result, StringBuilder out) {
+                if (result.passed) {  // runTest() skips it when the test throws
+                    out.append("Taking screenshot after test\n");
+                }
+            }
+        };
+    }
 }
 
 /**
@@ -84,6 +210,147 @@ class LoggingDecorator extends TestDecorator {
     private void log(String message) {
         System.out.println("LOG: " + message);
     }
+
+    @Override
+    public TestHook asHook() {
+        return new TestHook() {
+            @Override
+            public void before(StringBuilder out) {
+                out.append("LOG: Starting test\n");
+            }
+
+            @Override
+            public void after(TestResult result, StringBuilder out) {
+                if (result.passed) {  // runTest() skips it when the test throws
+                    out.append("LOG: Test completed\n");
+                }
+            }
+        };
+    }
+}
+
+/**
+ * Outcome passed to after-hooks
+ */
+class TestResult {
+    final boolean passed;
+    final Throwable error;
+    final long durationNanos;
+
+    TestResult(Throwable error, long durationNanos) {
+        this.passed = error == null;
+        this.error = error;
+        this.durationNanos = durationNanos;
+    }
+}
+
+/**
+ * Before/after behavior without a wrapping object
+ * Hooks write to a shared buffer instead of printing directly
+ */
+interface TestHook {
+    default void before(StringBuilder out) {}
+
+    default void after(TestResult result, StringBuilder out) {}
+
+    // Runs the after-hook only when the test failed, e.g. failure screenshots
+    static TestHook onFailure(TestHook hook) {
+        return new TestHook() {
+            @Override
+            public void after(TestResult result, StringBuilder out) {
+                if (!result.passed) {
+                    hook.after(result, out);
+                }
+            }
+        };
+    }
+}
+
+/**
+ * Flat alternative to a deep decorator stack
+ * One loop over hooks instead of one virtual call per layer,
+ * and one write of all hook output per test
+ */
+class TestPipeline implements TestRunner {
+    private final TestHook[] hooks;  // Outermost first
+    private final TestRunner target;
+
+    private TestPipeline(List<TestHook> hooks, TestRunner target) {
+        this.hooks = hooks.toArray(new TestHook[0]);
+        this.target = target;
+    }
+
+    public static Builder around(TestRunner target) {
+        return new Builder(target);
+    }
+
+    /**
+     * Collapses an existing decorator stack into a pipeline
+     * Stops at the first decorator that can't be expressed as a hook
+     */
+    public static TestRunner fuse(TestRunner runner) {
+        List<TestHook> hooks = new ArrayList<>();
+        TestRunner current = runner;
+        while (current instanceof TestDecorator) {
+            TestHook hook = ((TestDecorator) current).asHook();
+            if (hook == null) {
+                break;
+            }
+            hooks.add(hook);
+            current = ((TestDecorator) current).testRunner;
+        }
+        return hooks.isEmpty() ? runner : new TestPipeline(hooks, current);
+    }
+
+    @Override
+    public void runTest() {
+        StringBuilder out = new StringBuilder(256);
+        for (TestHook hook : hooks) {
+            hook.before(out);
+        }
+        flush(out);  // Before-output goes out ahead of the test's own output
+
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            target.runTest();
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            TestResult result = new TestResult(error, System.nanoTime() - start);
+            for (int i = hooks.length - 1; i >= 0; i--) {  // Unwind like decorators do
+                hooks[i].after(result, out);
+            }
+            flush(out);
+        }
+    }
+
+    private static void flush(StringBuilder out) {
+        if (out.length() > 0) {
+            System.out.print(out);
+            out.setLength(0);
+        }
+    }
+
+    public static class Builder {
+        private final TestRunner target;
+        private final List<TestHook> hooks = new ArrayList<>();
+
+        private Builder(TestRunner target) {
+            this.target = target;
+        }
+
+        // Hooks added first run their before() first and after() last
+        public Builder with(TestHook hook) {
+            hooks.add(hook);
+            return this;
+        }
+
+        public TestPipeline build() {
+            return new TestPipeline(hooks, target);
+        }
+    }
 }
 
 /**
@@ -91,7 +358,7 @@ class LoggingDecorator extends TestDecorator {
  * Demonstrates how features can be combined flexibly
  */
 public class AutomatedTest {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         // 1. Basic test - no decorations
         TestRunner basic = new BasicTestRunner();
         basic.runTest();
@@ -108,6 +375,69 @@ public class AutomatedTest {
             )
         );
         withScreenshotsAndLogs.runTest();
+
+        // 4. Same stack fused into a single pipeline
+        TestRunner fused = TestPipeline.fuse(withScreenshotsAndLogs);
+        fused.runTest();
+
+        // 5. Pipeline built directly, screenshot only on failure
+        TestRunner pipeline = TestPipeline.around(new BasicTestRunner())
+            .with(new LoggingDecorator(null).asHook())
+            .with(TestHook.onFailure(new TestHook() {
+                @Override
+                public void after(TestResult result, StringBuilder out) {
+                    out.append("Taking failure screenshot\n");
+                }
+            }))
+            .build();
+        pipeline.runTest();
+
+        // 6. Screenshots saved only for failing tests, off the test thread
+        WebDriver driver = new ChromeDriver();
+        ScreenshotStore store = new ScreenshotStore(Paths.get("target", "screenshots"), 64);
+        TestRunner failureShots = new ScreenshotDecorator(
+            new BasicTestRunner(),
+            () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES),
+            store
+        );
+        failureShots.runTest();
+        store.close();
+        driver.quit();
+    }
+}
+
+/**
+ * Checks that fusing a stack doesn't change what it prints
+ */
+public class DecoratorFusionTest {
+    @Test
+    public void testFusedStackMatchesDecoratorsWhenTestFails() {
+        TestRunner failing = () -> {
+            throw new IllegalStateException("Test failed");
+        };
+        TestRunner stack = new LoggingDecorator(new ScreenshotDecorator(failing));
+
+        String decorated = outputOf(stack);
+        String fused = outputOf(TestPipeline.fuse(stack));
+
+        Assert.assertFalse(decorated.contains("Test completed"));  // After-steps skipped
+        Assert.assertEquals(decorated, fused);
+    }
+
+    // Runs the test, swallowing its failure, and returns what it printed
+    private static String outputOf(TestRunner runner) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true));
+        try {
+            runner.runTest();
+            Assert.fail("Expected the test to fail");
+        } catch (IllegalStateException expected) {
+            // The failure itself is not what we compare
+        } finally {
+            System.setOut(original);
+        }
+        return captured.toString().replace(System.lineSeparator(), "\n");
     }
 }
 
@@ -123,4 +453,10 @@ public class AutomatedTest {
  * 3. Error screenshots
  * 4. Test logging
  * 5. Report generation
+ *
+ * When Stacks Get Deep:
+ * - TestPipeline.fuse turns a decorator stack into one flat loop of hooks
+ * - Hooks can be conditional (TestHook.onFailure)
+ * - Hook output is written once per phase instead of once per layer
+ * - Screenshots can be taken and saved only on failure
  */
@@ -1,64 +1,240 @@
 // Step 1: Define Domain Objects
+enum Operation {
+    ADD_TO_CART("Only customers can add products to cart"),
+    CHECKOUT("Only customers can checkout"),
+    VIEW_ALL_ORDERS("Only admins can view all orders");
+
+    final long bit = 1L << ordinal();
+    final String deniedMessage;
+
+    Operation(String deniedMessage) {
+        this.deniedMessage = deniedMessage;
+    }
+}
+
+enum Role {
+    // Role -> operation matrix, compiled to one bitmask per role
+    CUSTOMER("Customer", Operation.ADD_TO_CART, Operation.CHECKOUT),
+    ADMIN("Admin", Operation.VIEW_ALL_ORDERS);
+
+    private static final Map<String, Role> byName = new HashMap<>();
+    static {
+        for (Role role : values()) {
+            byName.put(role.displayName, role);
+        }
+    }
+
+    final String displayName;
+    final long capabilities;
+
+    Role(String displayName, Operation... allowed) {
+        this.displayName = displayName;
+        long bits = 0;
+        for (Operation operation : allowed) {
+            bits |= operation.bit;
+        }
+        this.capabilities = bits;
+    }
+
+    // Unknown roles get no capabilities, same as failing every check
+    static long capabilitiesOf(String roleName) {
+        Role role = byName.get(roleName);
+        return role == null ? 0 : role.capabilities;
+    }
+}
+
 class User {
     private final String username;
     private final String role;
+    private final long capabilities;  // Resolved once per user
 
     public User(String username, String role) {
         this.username = username;
         this.role = role;
+        this.capabilities = Role.capabilitiesOf(role);
     }
 
     public String getUsername() { return username; }
     public String getRole() { return role; }
-}
 
-// Step 2: Create Bounded Contexts
-class UserDomain {
-    public void addProductToCart(User user, String productId) {
-        validateCustomerRole(user);
-        System.out.println("Adding product to cart for user: " + user.getUsername());
+    // Single bit test - no string comparison
+    public boolean can(Operation operation) {
+        return (capabilities & operation.bit) != 0;
     }
+}
 
-    private void validateCustomerRole(User user) {
-        if (!"Customer".equals(user.getRole())) {
-            throw new IllegalStateException("Only customers can add products to cart");
+// Shared permission check used by every bounded context
+final class Permissions {
+    private Permissions() {}
+
+    static void require(User user, Operation operation) {
+        if (!user.can(operation)) {
+            throw new IllegalStateException(operation.deniedMessage);
         }
     }
 }
 
-class OrderDomain {
-    public void viewAllOrders(User admin) {
-        validateAdminRole(admin);
-        System.out.println("Admin viewing all orders for: " + admin.getUsername());
+// Step 2: Event-sourced state shared by the bounded contexts
+class ShopEvent {
+    enum Type { PRODUCT_ADDED, CHECKED_OUT }
+
+    final Type type;
+    final String userId;
+    final String reference;  // Product id or cart id
+    final long timestamp = System.currentTimeMillis();
+
+    ShopEvent(Type type, String userId, String reference) {
+        this.type = type;
+        this.userId = userId;
+        this.reference = reference;
+    }
+}
+
+class Order {
+    final String userId;
+    final String cartId;
+    final List<String> productIds;
+
+    Order(String userId, String cartId, List<String> productIds) {
+        this.userId = userId;
+        this.cartId = cartId;
+        this.productIds = productIds;
     }
+}
 
-    public void customerCheckout(User customer, String cartId) {
-        validateCustomerRole(customer);
-        System.out.println("Customer checking out with cart: " + cartId);
+/**
+ * In-memory, append-only event store
+ * - One event log per user
+ * - Writers for different users rarely share a lock (striped by user id)
+ * - Cart state is snapshotted every SNAPSHOT_INTERVAL events
+ * - Orders are projected as events arrive, so reads never replay
+ */
+class ShopEventStore {
+    private static final int SNAPSHOT_INTERVAL = 100;
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+    private final Map<String, UserStream> streams = new ConcurrentHashMap<>();
+    private final Queue<Order> orders = new ConcurrentLinkedQueue<>();  // Materialized view
+
+    ShopEventStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public void append(ShopEvent event) {
+        synchronized (lockFor(event.userId)) {
+            UserStream stream = streams.computeIfAbsent(event.userId, id -> new UserStream());
+            stream.events.add(event);
+            project(stream, event);
+            if (stream.events.size() - stream.snapshotIndex >= SNAPSHOT_INTERVAL) {
+                stream.snapshot = new ArrayList<>(stream.cart);
+                stream.snapshotIndex = stream.events.size();
+            }
+        }
+    }
+
+    // Incremental projection: cart for the user, order view for admins
+    private void project(UserStream stream, ShopEvent event) {
+        switch (event.type) {
+            case PRODUCT_ADDED -> stream.cart.add(event.reference);
+            case CHECKED_OUT -> {
+                orders.add(new Order(event.userId, event.reference,
+                    Collections.unmodifiableList(new ArrayList<>(stream.cart))));
+                stream.cart.clear();
+            }
+        }
     }
 
-    private void validateAdminRole(User user) {
-        if (!"Admin".equals(user.getRole())) {
-            throw new IllegalStateException("Only admins can view all orders");
+    /**
+     * Rebuilds a cart from the latest snapshot plus later events
+     * Used to verify the projection; tests normally read cartOf()
+     */
+    public List<String> replayCart(String userId) {
+        synchronized (lockFor(userId)) {
+            UserStream stream = streams.get(userId);
+            if (stream == null) {
+                return Collections.emptyList();
+            }
+            List<String> cart = new ArrayList<>(stream.snapshot);
+            for (ShopEvent event : stream.events.subList(stream.snapshotIndex, stream.events.size())) {
+                if (event.type == ShopEvent.Type.PRODUCT_ADDED) {
+                    cart.add(event.reference);
+                } else {
+                    cart.clear();
+                }
+            }
+            return cart;
         }
     }
 
-    private void validateCustomerRole(User user) {
-        if (!"Customer".equals(user.getRole())) {
-            throw new IllegalStateException("Only customers can checkout");
+    public List<String> cartOf(String userId) {
+        synchronized (lockFor(userId)) {
+            UserStream stream = streams.get(userId);
+            return stream == null ? Collections.emptyList() : new ArrayList<>(stream.cart);
         }
     }
+
+    public Collection<Order> allOrders() {
+        return Collections.unmodifiableCollection(orders);
+    }
+
+    private Object lockFor(String userId) {
+        return locks[(userId.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static class UserStream {
+        final List<ShopEvent> events = new ArrayList<>();  // Append-only
+        final List<String> cart = new ArrayList<>();       // Current projection
+        List<String> snapshot = new ArrayList<>();
+        int snapshotIndex;                                 // Events covered by snapshot
+    }
+}
+
+// Step 3: Create Bounded Contexts
+class UserDomain {
+    private final ShopEventStore store;
+
+    public UserDomain(ShopEventStore store) {
+        this.store = store;
+    }
+
+    public void addProductToCart(User user, String productId) {
+        Permissions.require(user, Operation.ADD_TO_CART);
+        store.append(new ShopEvent(ShopEvent.Type.PRODUCT_ADDED, user.getUsername(), productId));
+    }
 }
 
-// Step 3: Clean tests using domain objects and contexts
+class OrderDomain {
+    private final ShopEventStore store;
+
+    public OrderDomain(ShopEventStore store) {
+        this.store = store;
+    }
+
+    public Collection<Order> viewAllOrders(User admin) {
+        Permissions.require(admin, Operation.VIEW_ALL_ORDERS);
+        return store.allOrders();  // Reads the projection, no replay
+    }
+
+    public void customerCheckout(User customer, String cartId) {
+        Permissions.require(customer, Operation.CHECKOUT);
+        store.append(new ShopEvent(ShopEvent.Type.CHECKED_OUT, customer.getUsername(), cartId));
+    }
+}
+
+// Step 4: Clean tests using domain objects and contexts
 public class ECommerceTests {
-    private UserDomain userDomain = new UserDomain();
-    private OrderDomain orderDomain = new OrderDomain();
+    private ShopEventStore store = new ShopEventStore();
+    private UserDomain userDomain = new UserDomain(store);
+    private OrderDomain orderDomain = new OrderDomain(store);
 
     @Test
     public void testAddProductToCart() {
         User customer = new User("testUser", "Customer");
         userDomain.addProductToCart(customer, "123");
+        Assert.assertEquals(Arrays.asList("123"), store.cartOf("testUser"));
     }
 
     @Test
@@ -70,7 +246,46 @@ public class ECommerceTests {
     @Test
     public void testCustomerCheckout() {
         User customer = new User("customer123", "Customer");
+        userDomain.addProductToCart(customer, "123");
         orderDomain.customerCheckout(customer, "cart567");
+
+        User admin = new User("adminUser", "Admin");
+        Assert.assertEquals(1, orderDomain.viewAllOrders(admin).size());
+    }
+
+    @Test
+    public void testSnapshotReplayMatchesProjection() {
+        User customer = new User("bigSpender", "Customer");
+        // Cross two snapshot boundaries, with a checkout in between
+        for (int i = 0; i < 150; i++) {
+            userDomain.addProductToCart(customer, "p" + i);
+        }
+        orderDomain.customerCheckout(customer, "cart1");
+        for (int i = 0; i < 75; i++) {
+            userDomain.addProductToCart(customer, "q" + i);
+        }
+
+        Assert.assertEquals(75, store.cartOf("bigSpender").size());
+        Assert.assertEquals(store.cartOf("bigSpender"), store.replayCart("bigSpender"));
+    }
+
+    @Test
+    public void testConcurrentCustomers() throws InterruptedException {
+        // Load-test style: many customers shopping at once
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 1_000; i++) {
+            User customer = new User("customer" + i, "Customer");
+            pool.execute(() -> {
+                userDomain.addProductToCart(customer, "123");
+                orderDomain.customerCheckout(customer, "cart-" + customer.getUsername());
+            });
+        }
+        pool.shutdown();
+        Assert.assertTrue("Customers did not finish in time",
+            pool.awaitTermination(1, TimeUnit.MINUTES));
+
+        User admin = new User("adminUser", "Admin");
+        Assert.assertEquals(1_000, orderDomain.viewAllOrders(admin).size());
     }
 }
 
@@ -83,4 +298,6 @@ Key Changes:
 5. Clear domain boundaries
 6. Type safety instead of raw strings
 7. Easy to extend with new rules
+8. Role checks compiled to bitmasks - one permission table for all domains
+9. Domain state kept as per-user event logs with a projected order view
 */
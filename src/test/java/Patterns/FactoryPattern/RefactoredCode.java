@@ -31,6 +31,105 @@ class WebDriverFactory {
     }
 }
 
+/**
+ * Factory that launches drivers in the background before tests need them
+ * Demand comes from the browser parameters of the upcoming tests
+ */
+class PrewarmingDriverFactory {
+    private final Function<String, WebDriver> launcher;  // e.g. WebDriverFactory::getDriver
+    private final ExecutorService launchers;
+    private final int depth;                            // Max drivers warming per browser
+    private final Map<String, Queue<CompletableFuture<WebDriver>>> warm = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> remainingDemand = new ConcurrentHashMap<>();
+
+    // Metrics
+    private final AtomicInteger hits = new AtomicInteger();        // Driver was already started
+    private final AtomicInteger warmWaits = new AtomicInteger();   // Driver was still starting
+    private final AtomicInteger coldStarts = new AtomicInteger();  // Nothing prepared
+
+    public PrewarmingDriverFactory(Function<String, WebDriver> launcher,
+                                   ExecutorService launchers, int depth) {
+        this.launcher = launcher;
+        this.launchers = launchers;
+        this.depth = depth;
+    }
+
+    /**
+     * Tells the factory which browsers the next tests will ask for
+     * Starts launching up to 'depth' drivers per browser right away
+     */
+    public void expect(List<String> upcomingBrowsers) {
+        for (String browser : upcomingBrowsers) {
+            demandFor(browser).incrementAndGet();
+        }
+        remainingDemand.keySet().forEach(this::refill);
+    }
+
+    public WebDriver getDriver(String browserType) {
+        String key = browserType.toLowerCase();
+        demandFor(key).updateAndGet(d -> Math.max(0, d - 1));  // Unexpected browsers don't go negative
+        CompletableFuture<WebDriver> prepared = queueFor(key).poll();
+        refill(key);  // Replace what we just took
+
+        if (prepared == null) {
+            coldStarts.incrementAndGet();
+            return launcher.apply(key);
+        }
+        boolean ready = prepared.isDone();
+        WebDriver driver;
+        try {
+            driver = prepared.join();
+        } catch (CompletionException | CancellationException e) {
+            coldStarts.incrementAndGet();  // Background launch failed - try again in the foreground
+            return launcher.apply(key);
+        }
+        if (ready) {
+            hits.incrementAndGet();
+        } else {
+            warmWaits.incrementAndGet();
+        }
+        return driver;
+    }
+
+    // Keeps warming drivers in line with the demand still to come
+    private void refill(String key) {
+        Queue<CompletableFuture<WebDriver>> queue = queueFor(key);
+        synchronized (queue) {
+            int target = Math.min(depth, Math.max(0, demandFor(key).get()));
+            while (queue.size() < target) {
+                queue.add(CompletableFuture.supplyAsync(() -> launcher.apply(key), launchers));
+            }
+        }
+    }
+
+    private Queue<CompletableFuture<WebDriver>> queueFor(String key) {
+        return warm.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+    }
+
+    private AtomicInteger demandFor(String browserType) {
+        return remainingDemand.computeIfAbsent(browserType.toLowerCase(), k -> new AtomicInteger());
+    }
+
+    public double hitRate() {
+        int total = hits.get() + warmWaits.get() + coldStarts.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    public String metrics() {
+        return String.format("hits=%d warmWaits=%d coldStarts=%d hitRate=%.0f%%",
+            hits.get(), warmWaits.get(), coldStarts.get(), hitRate() * 100);
+    }
+
+    /**
+     * Quits drivers that were started but never used
+     */
+    public void shutdown() {
+        warm.values().forEach(queue -> queue.forEach(future ->
+            future.thenAccept(WebDriver::quit)));
+        launchers.shutdown();
+    }
+}
+
 /**
  * Test class using factory pattern
  * Shows how factory simplifies test code
@@ -78,6 +177,41 @@ public class BrowserTest {
     }
 }
 
+/**
+ * Suite that gets already-started browsers from the prewarming factory
+ */
+public class PrewarmedBrowserSuite {
+    private static final List<String> BROWSERS =
+        Arrays.asList("chrome", "chrome", "firefox", "chrome", "firefox");
+
+    private static final PrewarmingDriverFactory factory = new PrewarmingDriverFactory(
+        WebDriverFactory::getDriver, Executors.newFixedThreadPool(4), 2);
+
+    @BeforeClass
+    public static void warmUp() {
+        factory.expect(BROWSERS);  // Launching starts while the suite sets up
+    }
+
+    @Test
+    public void runAll() {
+        for (String browser : BROWSERS) {
+            WebDriver driver = factory.getDriver(browser);
+            try {
+                driver.get("http://example.com");
+                System.out.println("Running test in " + browser);
+            } finally {
+                driver.quit();
+            }
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println(factory.metrics());
+        factory.shutdown();
+    }
+}
+
 /* How Factory Pattern Helps:
  * 1. Encapsulation:
  *    - Browser creation logic in one place
@@ -95,4 +229,5 @@ public class BrowserTest {
  * - Add browser capabilities configuration
  * - Handle remote WebDriver setup
  * - Include logging/monitoring
+ * - Prewarm drivers in the background (PrewarmingDriverFactory)
  */
@@ -38,12 +38,173 @@ class EmailObserver implements TestObserver {
  * Sends test notifications to Slack
  * Good for team-wide test status updates
  */
-class SlackObserver implements TestObserver {
+class SlackObserver implements BatchTestObserver {
     @Override
     public void update(String event, String message) {
         // Could implement actual Slack API call here
         System.out.println("Slack: [" + event + "] " + message);
     }
+
+    @Override
+    public void updateBatch(List<TestEvent> events) {
+        // One Slack post for the whole batch
+        StringBuilder post = new StringBuilder();
+        events.forEach(e -> post.append('[').append(e.event).append("] ")
+            .append(e.message).append('\n'));
+        System.out.println("Slack:\n" + post);
+    }
+}
+
+/**
+ * Observer that can receive several events in one call
+ * Lets Slack/email observers send one message per batch
+ */
+interface BatchTestObserver extends TestObserver {
+    default void updateBatch(List<TestEvent> events) {
+        events.forEach(e -> update(e.event, e.message));
+    }
+}
+
+/**
+ * Immutable event record passed through the async queue
+ */
+class TestEvent {
+    final String event;
+    final String message;
+    final long createdNanos;
+
+    TestEvent(String event, String message) {
+        this.event = event;
+        this.message = message;
+        this.createdNanos = System.nanoTime();
+    }
+}
+
+/**
+ * What an async observer does when its queue is full
+ */
+enum BackpressurePolicy {
+    BLOCK,        // Test thread waits for space
+    DROP_OLDEST,  // Oldest queued event is discarded
+    COALESCE      // Overflow is counted and sent as one summary event
+}
+
+/**
+ * Wraps any observer so updates run on a dedicated consumer thread
+ * The test thread only pays for a queue offer
+ */
+class AsyncObserver implements TestObserver, AutoCloseable {
+    private final TestObserver delegate;
+    private final BackpressurePolicy policy;
+    private final BlockingQueue<TestEvent> queue;   // Bounded ring buffer
+    private final int batchSize;
+    private final long lingerNanos;  // Max wait for a batch to fill
+    private final Thread consumer;
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long lastLagNanos;
+    private volatile boolean running = true;
+
+    public AsyncObserver(TestObserver delegate, BackpressurePolicy policy,
+                         int capacity, int batchSize, Duration linger) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.consumer = new Thread(this::drainLoop,
+            "observer-" + delegate.getClass().getSimpleName());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void update(String event, String message) {
+        TestEvent testEvent = new TestEvent(event, message);
+        switch (policy) {
+            case BLOCK -> {
+                try {
+                    queue.put(testEvent);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(testEvent)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case COALESCE -> {
+                if (!queue.offer(testEvent)) {
+                    coalesced.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    // Consumer loop: wait for one event, then fill the batch until full or linger expires
+    private void drainLoop() {
+        List<TestEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TestEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    TestEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                long skipped = coalesced.getAndSet(0);
+                if (skipped > 0) {
+                    batch.add(new TestEvent("COALESCED", skipped + " events coalesced"));
+                }
+                lastLagNanos = System.nanoTime() - first.createdNanos;
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // A failing notifier must not kill the consumer
+                System.out.println("Observer failed: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<TestEvent> batch) {
+        if (delegate instanceof BatchTestObserver) {
+            ((BatchTestObserver) delegate).updateBatch(batch);
+        } else {
+            batch.forEach(e -> delegate.update(e.event, e.message));
+        }
+    }
+
+    // Monitoring counters
+    public int queueDepth() { return queue.size(); }
+    public long lagNanos() { return lastLagNanos; }
+    public long droppedCount() { return dropped.get(); }
+
+    /**
+     * Stops accepting work and waits for queued events to be delivered
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        consumer.join();
+    }
 }
 
 /**
@@ -102,6 +263,30 @@ public class TestRunner {
         // Run test - observers automatically notified
         test.runTest();
     }
+
+    /**
+     * Same setup, but slow notifiers run off the test thread
+     */
+    public static void runWithAsyncObservers() throws InterruptedException {
+        TestExecution test = new TestExecution();
+
+        AsyncObserver email = new AsyncObserver(
+            new EmailObserver(), BackpressurePolicy.BLOCK, 1024, 1, Duration.ZERO);
+        AsyncObserver slack = new AsyncObserver(
+            new SlackObserver(), BackpressurePolicy.COALESCE, 1024, 20,
+            Duration.ofSeconds(2));  // One Slack post per 20 events or 2 seconds
+
+        test.addObserver(new LoggerObserver());  // Cheap, stays synchronous
+        test.addObserver(email);
+        test.addObserver(slack);
+
+        test.runTest();
+
+        System.out.println("Slack queue depth: " + slack.queueDepth()
+            + ", lag: " + slack.lagNanos() + "ns");
+        email.close();
+        slack.close();  // Flush remaining events
+    }
 }
 
 /* How Observer Pattern Helps in Testing:
@@ -118,4 +303,9 @@ public class TestRunner {
  * - Real-time notifications
  * - Test monitoring
  * - Custom logging
+ *
+ * Async Dispatch:
+ * - AsyncObserver wraps any observer, so the subject is unchanged
+ * - Bounded queue with per-observer backpressure policy
+ * - Batch observers get one call per batch
  */
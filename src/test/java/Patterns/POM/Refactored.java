@@ -1,9 +1,97 @@
+/**
+ * Per-page cache of resolved elements
+ * Elements are looked up on first use and reused until invalidated
+ */
+class ElementCache {
+    private final WebDriver driver;
+    private final boolean enabled;
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    public ElementCache(WebDriver driver) {
+        this(driver, true);
+    }
+
+    // Disabled: every get() goes to the browser, as before caching
+    public ElementCache(WebDriver driver, boolean enabled) {
+        this.driver = driver;
+        this.enabled = enabled;
+    }
+
+    public WebElement get(By locator) {
+        if (!enabled) {
+            return driver.findElement(locator);
+        }
+        return elements.computeIfAbsent(locator, driver::findElement);
+    }
+
+    public void put(By locator, WebElement element) {
+        elements.put(locator, element);
+    }
+
+    /**
+     * Resolves several locators in one script call
+     * Works for locators that map to CSS (By.id, By.cssSelector, ...);
+     * otherwise leaves them to resolve lazily one by one
+     */
+    @SuppressWarnings("unchecked")
+    public void resolveAll(By... locators) {
+        if (!enabled || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        List<String> selectors = new ArrayList<>(locators.length);
+        for (By locator : locators) {
+            if (!(locator instanceof By.Remotable)) {
+                return;
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if (!"css selector".equals(parameters.using())) {
+                return;
+            }
+            selectors.add(String.valueOf(parameters.value()));
+        }
+        List<WebElement> found = (List<WebElement>) ((JavascriptExecutor) driver).executeScript(
+            "return arguments[0].map(function (css) { return document.querySelector(css); });",
+            selectors);
+        for (int i = 0; i < locators.length; i++) {
+            if (found.get(i) != null) {
+                elements.put(locators[i], found.get(i));
+            }
+        }
+    }
+
+    /**
+     * Runs an action on a cached element
+     * If the element went stale, resolves it again and retries once
+     */
+    public <T> T with(By locator, Function<WebElement, T> action) {
+        try {
+            return action.apply(get(locator));
+        } catch (StaleElementReferenceException e) {
+            elements.remove(locator);
+            return action.apply(get(locator));
+        }
+    }
+
+    public void run(By locator, Consumer<WebElement> action) {
+        with(locator, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    // Call after navigation or anything that re-renders the page
+    public void invalidate() {
+        elements.clear();
+    }
+}
+
 /**
  * Page Object Pattern for Login Page
  * Encapsulates page structure and behavior
  */
 class LoginPage {
     private final WebDriver driver;
+    private final ElementCache elements;
 
     /**
      * Locators centralized in one place
@@ -16,7 +104,21 @@ class LoginPage {
     private final By errorMessage = By.id("errorMessage");
 
     public LoginPage(WebDriver driver) {
+        this(driver, true);
+    }
+
+    // cacheElements = false looks every element up per interaction
+    public LoginPage(WebDriver driver, boolean cacheElements) {
         this.driver = driver;
+        this.elements = new ElementCache(driver, cacheElements);
+    }
+
+    /**
+     * Navigation changes the DOM, so cached elements are dropped
+     */
+    public void open(String url) {
+        driver.get(url);
+        elements.invalidate();
     }
 
     /**
@@ -24,23 +126,24 @@ class LoginPage {
      * Each method handles one specific element interaction
      */
     public void enterUsername(String username) {
-        driver.findElement(usernameField).sendKeys(username);
+        elements.run(usernameField, e -> e.sendKeys(username));
     }
 
     public void enterPassword(String password) {
-        driver.findElement(passwordField).sendKeys(password);
+        elements.run(passwordField, e -> e.sendKeys(password));
     }
 
     public void clickLoginButton() {
-        driver.findElement(loginButton).click();
+        elements.run(loginButton, WebElement::click);
+        elements.invalidate();  // Submitting the form loads a new page
     }
 
     public boolean isWelcomeMessageDisplayed() {
-        return driver.findElement(welcomeMessage).isDisplayed();
+        return elements.with(welcomeMessage, WebElement::isDisplayed);
     }
 
     public boolean isErrorMessageDisplayed() {
-        return driver.findElement(errorMessage).isDisplayed();
+        return elements.with(errorMessage, WebElement::isDisplayed);
     }
 
     /**
@@ -48,6 +151,7 @@ class LoginPage {
      * Combines multiple low-level actions
      */
     public void login(String username, String password) {
+        elements.resolveAll(usernameField, passwordField, loginButton);  // One round trip
         enterUsername(username);
         enterPassword(password);
         clickLoginButton();
@@ -91,6 +195,139 @@ public class LoginTests {
     }
 }
 
+/**
+ * In-memory driver that counts round trips to the browser
+ * Every lookup finds a fake element, so no browser or page is needed
+ */
+class StubLoginDriver implements WebDriver, JavascriptExecutor {
+    private int roundTrips;
+
+    @Override
+    public WebElement findElement(By by) {
+        roundTrips++;
+        return fakeElement();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        roundTrips++;
+        return Collections.singletonList(fakeElement());
+    }
+
+    // Answers ElementCache.resolveAll: one element per selector in arguments[0]
+    @Override
+    public Object executeScript(String script, Object... args) {
+        roundTrips++;
+        List<?> selectors = (List<?>) args[0];
+        List<WebElement> found = new ArrayList<>(selectors.size());
+        for (int i = 0; i < selectors.size(); i++) {
+            found.add(fakeElement());
+        }
+        return found;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    // Accepts every interaction; state queries report a visible, enabled element
+    private static WebElement fakeElement() {
+        return (WebElement) java.lang.reflect.Proxy.newProxyInstance(
+            WebElement.class.getClassLoader(), new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+                }
+            });
+    }
+
+    @Override
+    public void get(String url) {}
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public String getPageSource() {
+        return "";
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void quit() {}
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    // Not used by page objects under test
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+/**
+ * Round-trip counts for the same login flow, with and without the element cache
+ * Runs on StubLoginDriver, so no browser is launched
+ */
+public class LoginRoundTripTests {
+    @Test
+    public void testLoginRoundTrips() {
+        // Before: one lookup per interaction
+        StubLoginDriver uncachedDriver = new StubLoginDriver();
+        LoginPage uncached = new LoginPage(uncachedDriver, false);
+        uncached.login("validUser", "validPassword");   // 3 lookups
+        uncached.isWelcomeMessageDisplayed();
+        uncached.isWelcomeMessageDisplayed();           // Looked up again
+
+        // After: same flow through the cached page object
+        StubLoginDriver cachedDriver = new StubLoginDriver();
+        LoginPage cached = new LoginPage(cachedDriver);
+        cached.login("validUser", "validPassword");     // 1 script call for all fields
+        cached.isWelcomeMessageDisplayed();
+        cached.isWelcomeMessageDisplayed();             // Reuses the cached element
+
+        Assert.assertEquals(5, uncachedDriver.getRoundTrips());
+        Assert.assertEquals(2, cachedDriver.getRoundTrips());
+    }
+}
+
 /* How Page Object Pattern Helps:
  * 1. Structure:
  *    - Page elements in one place
@@ -106,4 +343,9 @@ public class LoginTests {
  *    - Clean, readable tests
  *    - Business-focused test methods
  *    - Reduced code duplication
+ *
+ * 4. Performance:
+ *    - Elements resolved once per page, not per interaction
+ *    - Stale elements re-resolved automatically
+ *    - Login fields fetched in a single round trip
  */
@@ -40,57 +40,458 @@ class WebDriverBrowser implements Browser {
     }
 }
 
+/**
+ * Kinds of browser actions recorded by the proxy
+ */
+enum ActionType {
+    NAVIGATE("Navigating to: ", "Navigation failed: "),
+    TYPE("Typing into: ", "Type operation failed: "),
+    CLICK("Clicking: ", "Click failed: ");
+
+    final String label;
+    final String failureLabel;
+
+    ActionType(String label, String failureLabel) {
+        this.label = label;
+        this.failureLabel = failureLabel;
+    }
+}
+
+/**
+ * Interns locators and URLs to small int ids, up to MAX_TARGETS
+ * Checks an identity cache first - By.hashCode() and equals() build strings
+ */
+class TargetIds {
+    static final int MAX_TARGETS = 1024;
+    static final int OTHER_TARGET = 0;  // Shared id once the table is full
+
+    private final Map<Object, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>(Collections.singletonList("(other)"));
+    // Direct-mapped by identity hash; a collision just replaces the older entry
+    private final IdentityEntry[] recent = new IdentityEntry[2 * MAX_TARGETS];
+
+    /**
+     * Id for the target, assigning one on first sight
+     * No allocation when this same instance was seen recently
+     */
+    public int intern(Object target) {
+        int slot = System.identityHashCode(target) & (recent.length - 1);
+        IdentityEntry entry = recent[slot];  // Racy read is safe - entries are immutable
+        if (entry != null && entry.target == target) {
+            return entry.id;
+        }
+        int id = internByValue(target);  // New instance of a known target, or a new target
+        recent[slot] = new IdentityEntry(target, id);
+        return id;
+    }
+
+    private int internByValue(Object target) {
+        Integer id = ids.get(target);
+        if (id != null) {
+            return id;
+        }
+        synchronized (names) {
+            id = ids.get(target);
+            if (id != null) {
+                return id;
+            }
+            if (names.size() >= MAX_TARGETS) {
+                return OTHER_TARGET;  // e.g. URLs with unique query strings
+            }
+            names.add(target.toString());
+            id = names.size() - 1;
+            ids.put(target, id);
+            return id;
+        }
+    }
+
+    // Id already assigned to the target, or -1 - never assigns one
+    public int idOf(Object target) {
+        Integer id = ids.get(target);
+        return id == null ? -1 : id;
+    }
+
+    public String nameOf(int id) {
+        synchronized (names) {
+            return names.get(id);
+        }
+    }
+
+    private static final class IdentityEntry {
+        final Object target;
+        final int id;
+
+        IdentityEntry(Object target, int id) {
+            this.target = target;
+            this.id = id;
+        }
+    }
+}
+
+/**
+ * Fixed-size ring buffer of action records
+ * Stores primitives only - text is built when the log is read
+ * Oldest records are overwritten once capacity is reached
+ */
+class ActionLog {
+    private static final long EMPTY = -2;
+    private static final long WRITING = -1;
+
+    private final int mask;
+    // One array per field instead of one object per record
+    private final byte[] types;
+    private final int[] targets;
+    private final long[] timestamps;
+    private final long[] durations;
+    private final AtomicLongArray published;   // Sequence stored in each slot
+    private final AtomicLong next = new AtomicLong();
+
+    // Locators and URLs are stored as int ids
+    private final TargetIds targetIds;
+
+    public ActionLog(int capacity) {
+        this(capacity, new TargetIds());
+    }
+
+    /**
+     * Shares the id table with a LatencyRecorder, so each target is interned once
+     */
+    public ActionLog(int capacity, TargetIds targetIds) {
+        this.targetIds = targetIds;
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;  // Power of two
+        this.mask = size - 1;
+        this.types = new byte[size];
+        this.targets = new int[size];
+        this.timestamps = new long[size];
+        this.durations = new long[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, EMPTY);
+        }
+    }
+
+    /**
+     * Records one action - safe to call from many threads
+     * No allocation once the target has been seen before
+     */
+    public void record(ActionType type, Object target, long durationNanos, boolean failed) {
+        record(type, targetIds.intern(target), durationNanos, failed);
+    }
+
+    // Same as above, for an id already interned in this log's TargetIds
+    public void record(ActionType type, int targetId, long durationNanos, boolean failed) {
+        long seq = next.getAndIncrement();
+        int slot = (int) (seq & mask);
+
+        // Claim the slot with CAS so two writers that wrap onto it can't interleave
+        while (true) {
+            long current = published.get(slot);
+            if (current > seq) {
+                return;  // A newer record already owns this slot
+            }
+            if (current != WRITING && published.compareAndSet(slot, current, WRITING)) {
+                break;
+            }
+            Thread.onSpinWait();
+        }
+        types[slot] = (byte) (failed ? -(type.ordinal() + 1) : type.ordinal() + 1);
+        targets[slot] = targetId;
+        timestamps[slot] = System.currentTimeMillis();
+        durations[slot] = durationNanos;
+        published.set(slot, seq);             // Publish to readers
+    }
+
+    /**
+     * Formats each retained record, oldest first
+     * Records overwritten while being read are skipped
+     */
+    public void forEach(Consumer<String> consumer) {
+        long end = next.get();
+        long begin = Math.max(0, end - (mask + 1));
+        StringBuilder line = new StringBuilder(128);
+        for (long seq = begin; seq < end; seq++) {
+            int slot = (int) (seq & mask);
+            if (published.get(slot) != seq) {
+                continue;
+            }
+            byte type = types[slot];
+            int targetId = targets[slot];
+            long timestamp = timestamps[slot];
+            long duration = durations[slot];
+            VarHandle.loadFence();  // Field reads must finish before the re-check
+            if (published.get(slot) != seq) {
+                continue;  // Overwritten while reading
+            }
+
+            ActionType action = ActionType.values()[Math.abs(type) - 1];
+            String target = targetIds.nameOf(targetId);
+            line.setLength(0);
+            line.append(Instant.ofEpochMilli(timestamp)).append(' ')
+                .append(type < 0 ? action.failureLabel : action.label)
+                .append(target)
+                .append(" (").append(duration / 1_000).append(" us)");
+            consumer.accept(line.toString());
+        }
+    }
+
+    /**
+     * Streams the log to a file instead of copying it into memory
+     */
+    public void writeTo(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            forEach(line -> {
+                try {
+                    writer.write(line);
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // Records lost because the buffer wrapped
+    public long overwrittenCount() {
+        return Math.max(0, next.get() - (mask + 1));
+    }
+}
+
+/**
+ * Latency histogram with log-linear buckets (HDR style)
+ * 16 linear sub-buckets per power of two, so about 6% precision
+ * Recording is a few atomic increments - no locks, no allocation
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKETS = 16;
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        max.accumulate(value);
+    }
+
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;  // Exact buckets for tiny values
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 4;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long lowerBoundOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (index - shift * SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Percentile snapshot - counts may move while being read,
+     * which is fine for reporting
+     */
+    public LatencySnapshot snapshot() {
+        long count = total.sum();
+        long maxValue = max.get();
+        return new LatencySnapshot(count,
+            percentile(count, 0.50, maxValue),
+            percentile(count, 0.99, maxValue),
+            maxValue);
+    }
+
+    private long percentile(long count, double percentile, long maxValue) {
+        long rank = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank && seen > 0) {
+                // Report the bucket's upper edge, capped at the real max
+                return Math.min(lowerBoundOf(i + 1) - 1, maxValue);
+            }
+        }
+        return maxValue;
+    }
+}
+
+/**
+ * Point-in-time percentiles for one histogram, in nanoseconds
+ */
+class LatencySnapshot {
+    final long count;
+    final long p50;
+    final long p99;
+    final long max;
+
+    LatencySnapshot(long count, long p50, long p99, long max) {
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    @Override
+    public String toString() {
+        return count + "," + p50 + "," + p99 + "," + max;
+    }
+}
+
+/**
+ * Latency histograms per action type and per locator/page
+ * Shows which locators and pages make the suite slow
+ */
+class LatencyRecorder {
+    private final Map<ActionType, LatencyHistogram> byAction = new EnumMap<>(ActionType.class);
+    // Indexed by target id; slot OTHER_TARGET collects targets past the bound
+    private final TargetIds targetIds = new TargetIds();
+    private final AtomicReferenceArray<LatencyHistogram> byTarget =
+        new AtomicReferenceArray<>(TargetIds.MAX_TARGETS);
+
+    public LatencyRecorder() {
+        for (ActionType type : ActionType.values()) {
+            byAction.put(type, new LatencyHistogram());  // Filled once, read-only after
+        }
+        byTarget.set(TargetIds.OTHER_TARGET, new LatencyHistogram());
+    }
+
+    // Id table shared with each proxy's ActionLog
+    public TargetIds targetIds() {
+        return targetIds;
+    }
+
+    public void record(ActionType type, Object target, long nanos) {
+        record(type, targetIds.intern(target), nanos);
+    }
+
+    // Hot path - an array read instead of a map lookup keyed by the locator
+    public void record(ActionType type, int targetId, long nanos) {
+        byAction.get(type).record(nanos);
+        LatencyHistogram histogram = byTarget.get(targetId);
+        if (histogram == null) {
+            byTarget.compareAndSet(targetId, null, new LatencyHistogram());  // First sight only
+            histogram = byTarget.get(targetId);
+        }
+        histogram.record(nanos);
+    }
+
+    public LatencySnapshot forAction(ActionType type) {
+        return byAction.get(type).snapshot();
+    }
+
+    public LatencySnapshot forTarget(Object target) {
+        int id = targetIds.idOf(target);
+        LatencyHistogram histogram = id < 0 ? null : byTarget.get(id);
+        return histogram == null ? null : histogram.snapshot();
+    }
+
+    /**
+     * Writes all snapshots as CSV - call at the end of the suite
+     */
+    public void exportTo(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("scope,name,count,p50_ns,p99_ns,max_ns");
+            writer.newLine();
+            for (Map.Entry<ActionType, LatencyHistogram> entry : byAction.entrySet()) {
+                writer.write("action," + entry.getKey() + "," + entry.getValue().snapshot());
+                writer.newLine();
+            }
+            for (int id = TargetIds.OTHER_TARGET + 1; id < byTarget.length(); id++) {
+                LatencyHistogram histogram = byTarget.get(id);
+                if (histogram != null) {
+                    writer.write("target,\"" + targetIds.nameOf(id) + "\"," + histogram.snapshot());
+                    writer.newLine();
+                }
+            }
+            writer.write("target,(other)," + byTarget.get(TargetIds.OTHER_TARGET).snapshot());
+            writer.newLine();
+        }
+    }
+}
+
 /**
  * Proxy that adds logging and error handling
  * Wraps real browser without modifying it
  */
 class BrowserProxy implements Browser {
     private final Browser browser;         // Wrapped browser
-    private final List<String> actions;    // Action log
+    private final ActionLog actions;       // Action log
+    private final LatencyRecorder latencies;
 
     public BrowserProxy(Browser browser) {
+        this(browser, 4096, new LatencyRecorder());
+    }
+
+    /**
+     * Share one LatencyRecorder across proxies to get suite-wide numbers
+     */
+    public BrowserProxy(Browser browser, int logCapacity, LatencyRecorder latencies) {
         this.browser = browser;
-        this.actions = new ArrayList<>();
+        this.actions = new ActionLog(logCapacity, latencies.targetIds());
+        this.latencies = latencies;
     }
 
     @Override
     public void navigate(String url) {
+        long start = System.nanoTime();
         try {
-            actions.add("Navigating to: " + url);     // Pre-action logging
-            browser.navigate(url);                     // Delegate to real browser
+            browser.navigate(url);                          // Delegate to real browser
+            record(ActionType.NAVIGATE, url, start, false);
         } catch (Exception e) {
-            actions.add("Navigation failed: " + e.getMessage());  // Error logging
+            record(ActionType.NAVIGATE, url, start, true);  // Error logging
             throw e;
         }
     }
 
     @Override
     public void type(By locator, String text) {
+        long start = System.nanoTime();
         try {
-            // Mask sensitive data in logs
-            String safeText = locator.toString().contains("password") ? "****" : text;
-            actions.add("Typing '" + safeText + "' into: " + locator);
+            // Typed text is never stored, so passwords can't leak into logs
             browser.type(locator, text);
+            record(ActionType.TYPE, locator, start, false);
         } catch (Exception e) {
-            actions.add("Type operation failed: " + e.getMessage());
+            record(ActionType.TYPE, locator, start, true);
             throw e;
         }
     }
 
     @Override
     public void click(By locator) {
+        long start = System.nanoTime();
         try {
-            actions.add("Clicking: " + locator);
             browser.click(locator);
+            record(ActionType.CLICK, locator, start, false);
         } catch (Exception e) {
-            actions.add("Click failed: " + e.getMessage());
+            record(ActionType.CLICK, locator, start, true);
             throw e;
         }
     }
 
-    // Return copy of logs to prevent external modification
+    // Single timing point feeds both the log and the histograms
+    private void record(ActionType type, Object target, long start, boolean failed) {
+        long elapsed = System.nanoTime() - start;
+        int targetId = latencies.targetIds().intern(target);  // Interned once for both
+        actions.record(type, targetId, elapsed, failed);
+        latencies.record(type, targetId, elapsed);
+    }
+
+    // Formats the retained log on demand
     public List<String> getActionLog() {
-        return new ArrayList<>(actions);
+        List<String> lines = new ArrayList<>();
+        actions.forEach(lines::add);
+        return lines;
+    }
+
+    // Streams the log to disk without building a list
+    public void writeActionLog(Path file) throws IOException {
+        actions.writeTo(file);
+    }
+
+    public LatencyRecorder getLatencies() {
+        return latencies;
     }
 }
 
@@ -98,10 +499,13 @@ class BrowserProxy implements Browser {
  * Example showing proxy usage in tests
  */
 class LoginTest {
+    // Shared by every proxy in the suite
+    private static final LatencyRecorder latencies = new LatencyRecorder();
+
     @Test
-    public void testLogin() {
+    public void testLogin() throws IOException {
         // Wrap real browser with proxy
-        Browser browser = new BrowserProxy(new WebDriverBrowser());
+        Browser browser = new BrowserProxy(new WebDriverBrowser(), 4096, latencies);
 
         // Perform login - proxy automatically handles logging
         browser.navigate("http://example.com/login");
@@ -112,6 +516,16 @@ class LoginTest {
         // Access logs for verification
         BrowserProxy proxy = (BrowserProxy) browser;
         proxy.getActionLog().forEach(System.out::println);
+
+        // Long suites stream the log to disk instead
+        proxy.writeActionLog(Paths.get("target", "actions.log"));
+
+        System.out.println("Click p99 (ns): " + latencies.forAction(ActionType.CLICK).p99);
+    }
+
+    @AfterClass
+    public static void exportLatencies() throws IOException {
+        latencies.exportTo(Paths.get("target", "latencies.csv"));
     }
 }
 
@@ -131,4 +545,10 @@ class LoginTest {
  * - Error screenshots
  * - Retry mechanisms
  * - Performance monitoring
+ *
+ * Action Log Design:
+ * - Bounded ring buffer, safe for concurrent writers
+ * - Records are primitives; strings built only when read
+ * - Log can be streamed to a file
+ * - Latency histograms per action and per locator, exported as CSV
  */
@@ -6,6 +6,8 @@ public class WebDriverManager {
     // Static instance for Singleton pattern
     private static WebDriver driver;
     private static String currentBrowser;
+    // Swappable so benchmarks and unit tests can use stub drivers
+    private static Function<String, WebDriver> driverFactory = WebDriverManager::launch;
 
     // Private constructor prevents external instantiation
     private WebDriverManager() {}
@@ -22,18 +24,34 @@ public class WebDriverManager {
             }
 
             // Create new driver instance
-            driver = switch (browserType.toLowerCase()) {
-                case "chrome" -> new ChromeDriver();
-                case "firefox" -> new FirefoxDriver();
-                default -> throw new IllegalArgumentException(
-                    "Unsupported browser: " + browserType
-                );
-            };
+            driver = createDriver(browserType);
             currentBrowser = browserType;
         }
         return driver;
     }
 
+    /**
+     * Launches a fresh browser for the given type
+     * Shared by the singleton and the session pool
+     */
+    static WebDriver createDriver(String browserType) {
+        return driverFactory.apply(browserType);
+    }
+
+    static void setDriverFactory(Function<String, WebDriver> factory) {
+        driverFactory = factory;
+    }
+
+    private static WebDriver launch(String browserType) {
+        return switch (browserType.toLowerCase()) {
+            case "chrome" -> new ChromeDriver();
+            case "firefox" -> new FirefoxDriver();
+            default -> throw new IllegalArgumentException(
+                "Unsupported browser: " + browserType
+            );
+        };
+    }
+
     /**
      * Cleanup method for test completion
      * Ensures proper resource management
@@ -47,6 +65,202 @@ public class WebDriverManager {
     }
 }
 
+/**
+ * Bounded pool of WebDriver sessions keyed by browser type
+ * Lets parallel test threads share browsers without one global lock
+ */
+class WebDriverPool {
+    private static final WebDriverPool INSTANCE = new WebDriverPool(8);
+    // Wait while every browser is leased or still launching
+    private static final long MIN_BACKOFF_NANOS = 50_000;       // 50us
+    private static final long MAX_BACKOFF_NANOS = 10_000_000;   // 10ms
+
+    // One pool per browser type, created on first use
+    private final Map<String, BrowserSessions> pools = new ConcurrentHashMap<>();
+    // Session currently leased by each test thread
+    private final ThreadLocal<Map<String, PooledSession>> leased =
+        ThreadLocal.withInitial(HashMap::new);
+    private final int maxSessionsPerBrowser;
+
+    WebDriverPool(int maxSessionsPerBrowser) {
+        this.maxSessionsPerBrowser = maxSessionsPerBrowser;
+    }
+
+    public static WebDriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Leases a healthy session to the calling thread
+     * Repeated calls on the same thread return the same session
+     */
+    public WebDriver lease(String browserType) throws InterruptedException {
+        String key = browserType.toLowerCase();
+        PooledSession current = leased.get().get(key);
+        if (current != null) {
+            return current.driver;
+        }
+
+        BrowserSessions sessions = sessionsFor(key);
+        sessions.permits.acquire();  // Blocks only when the pool is exhausted
+        try {
+            PooledSession session = null;
+            long backoffNanos = MIN_BACKOFF_NANOS;
+            while (session == null) {
+                session = sessions.idle.pollFirst();
+                if (session != null && !isHealthy(session.driver)) {
+                    discard(sessions, session);  // Drop dead sessions
+                    session = null;
+                } else if (session == null) {
+                    if (sessions.tryReserve()) {
+                        session = launch(sessions, key);
+                    } else {
+                        // A session is on its way back, or warmUp is still launching one
+                        LockSupport.parkNanos(backoffNanos);
+                        backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF_NANOS);
+                        if (Thread.interrupted()) {
+                            throw new InterruptedException("Interrupted waiting for a " + key + " session");
+                        }
+                    }
+                }
+            }
+            leased.get().put(key, session);
+            return session.driver;
+        } catch (InterruptedException | RuntimeException e) {
+            sessions.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the calling thread's session to the idle queue
+     * Must be called on the thread that leased it - leases are per thread
+     */
+    public void release(String browserType) {
+        String key = browserType.toLowerCase();
+        PooledSession session = leased.get().remove(key);
+        if (session == null) {
+            throw new IllegalStateException(
+                "No " + key + " session leased by " + Thread.currentThread().getName());
+        }
+        BrowserSessions sessions = sessionsFor(key);
+        session.lastReturned = System.nanoTime();
+        sessions.idle.offerFirst(session);  // Most recently used goes out first
+        sessions.permits.release();
+    }
+
+    /**
+     * Starts standby sessions so the first tests don't pay for browser launch
+     */
+    public void warmUp(String browserType, int count) {
+        String key = browserType.toLowerCase();
+        BrowserSessions sessions = sessionsFor(key);
+        // Counts leased sessions too, so warm-up never exceeds the pool bound
+        for (int i = sessions.idle.size(); i < count && sessions.tryReserve(); i++) {
+            sessions.idle.offerLast(launch(sessions, key));
+        }
+    }
+
+    /**
+     * Quits sessions that have been idle longer than maxIdle
+     * Intended to be called from a scheduled executor
+     */
+    public void evictIdle(Duration maxIdle) {
+        long cutoff = System.nanoTime() - maxIdle.toNanos();
+        pools.values().forEach(sessions -> {
+            for (PooledSession session : sessions.idle) {
+                // Quit only if we won the removal - a lease may have taken it first
+                if (session.lastReturned - cutoff < 0 && sessions.idle.removeFirstOccurrence(session)) {
+                    discard(sessions, session);
+                }
+            }
+        });
+    }
+
+    /**
+     * Quits every idle session - call once at the end of the suite
+     */
+    public void shutdown() {
+        pools.values().forEach(sessions -> {
+            PooledSession session;
+            while ((session = sessions.idle.poll()) != null) {
+                discard(sessions, session);
+            }
+        });
+    }
+
+    private BrowserSessions sessionsFor(String key) {
+        return pools.computeIfAbsent(key,
+            k -> new BrowserSessions(maxSessionsPerBrowser));
+    }
+
+    private PooledSession launch(BrowserSessions sessions, String key) {
+        try {
+            return new PooledSession(WebDriverManager.createDriver(key));
+        } catch (RuntimeException e) {
+            sessions.live.decrementAndGet();  // Reservation not used
+            throw e;
+        }
+    }
+
+    private void discard(BrowserSessions sessions, PooledSession session) {
+        sessions.live.decrementAndGet();
+        quietlyQuit(session.driver);
+    }
+
+    // Cheap round trip that fails if the browser has died
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception ignored) {
+            // Session already gone
+        }
+    }
+
+    // Per-browser idle queue plus the bounds on leased and live sessions
+    private static class BrowserSessions {
+        final ConcurrentLinkedDeque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+        final Semaphore permits;                       // Leased sessions
+        final AtomicInteger live = new AtomicInteger(); // Leased + idle browsers
+        final int maxSessions;
+
+        BrowserSessions(int maxSessions) {
+            this.permits = new Semaphore(maxSessions);
+            this.maxSessions = maxSessions;
+        }
+
+        // Claims room for one more browser, if the bound allows it
+        boolean tryReserve() {
+            int current;
+            do {
+                current = live.get();
+                if (current >= maxSessions) {
+                    return false;
+                }
+            } while (!live.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    private static class PooledSession {
+        final WebDriver driver;
+        volatile long lastReturned = System.nanoTime();
+
+        PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
+
 /**
  * Test class demonstrating WebDriverManager usage
  */
@@ -80,6 +294,35 @@ public class BrowserTest {
     }
 }
 
+/**
+ * Test class for parallel runs using the session pool
+ * Each worker thread gets its own browser, returned after the test
+ */
+public class ParallelBrowserTest {
+    private final WebDriverPool pool = WebDriverPool.getInstance();
+
+    @BeforeClass
+    public static void warmUp() {
+        WebDriverPool.getInstance().warmUp("chrome", 4);
+    }
+
+    @Test
+    public void testLoginInChrome() throws InterruptedException {
+        WebDriver driver = pool.lease("chrome");
+        try {
+            driver.get("http://example.com");
+            System.out.println("Running Chrome test on " + Thread.currentThread().getName());
+        } finally {
+            pool.release("chrome");  // Session goes back for the next test
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        WebDriverPool.getInstance().shutdown();
+    }
+}
+
 /* Singleton Benefits in Testing:
  * 1. Resource Management:
  *    - Single browser instance
@@ -96,4 +339,10 @@ public class BrowserTest {
  * - Automatic cleanup
  * - Browser switching support
  * - Thread-safety potential
+ *
+ * Scaling Up with WebDriverPool:
+ * - One pool per browser type, bounded by a semaphore
+ * - Each thread leases its own session
+ * - Warm standby sessions and health checks before reuse
+ * - Idle sessions evicted on a schedule
  */
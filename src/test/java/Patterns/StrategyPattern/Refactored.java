@@ -52,6 +52,301 @@ class EmailLoginStrategy implements LoginStrategy {
     }
 }
 
+/**
+ * Stores logged-in browser state (cookies + localStorage) on disk
+ * One file per strategy + user, valid for a fixed TTL
+ */
+class SessionCache {
+    private static final String READ_STORAGE =
+        "var s = {}; for (var i = 0; i < localStorage.length; i++) {"
+        + " var k = localStorage.key(i); s[k] = localStorage.getItem(k); } return s;";
+    private static final String WRITE_STORAGE = "localStorage.setItem(arguments[0], arguments[1]);";
+
+    private final Path directory;
+    private final Duration ttl;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger invalidations = new AtomicInteger();
+
+    public SessionCache(Path directory, Duration ttl) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.ttl = ttl;
+    }
+
+    /**
+     * Restores a saved session into the driver, which must already be on the site
+     * Not a hit until the caller confirms it with recordHit()
+     * @return false if there is no fresh session for this key
+     */
+    public boolean restore(String key, WebDriver driver) {
+        Properties session = load(key);
+        if (session == null) {
+            misses.incrementAndGet();
+            return false;
+        }
+        for (String name : session.stringPropertyNames()) {
+            if (name.startsWith("cookie.") && name.endsWith(".value")) {
+                driver.manage().addCookie(readCookie(session, name.substring(0, name.length() - 6)));
+            } else if (name.startsWith("storage.")) {
+                ((JavascriptExecutor) driver).executeScript(
+                    WRITE_STORAGE, name.substring(8), session.getProperty(name));
+            }
+        }
+        driver.navigate().refresh();  // Page picks up the restored session
+        return true;
+    }
+
+    // Called once a restored session is confirmed logged in
+    public void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    // Saves the driver's current session after a successful UI login
+    @SuppressWarnings("unchecked")
+    public void capture(String key, WebDriver driver) {
+        Properties session = new Properties();
+        session.setProperty("capturedAt", Long.toString(System.currentTimeMillis()));
+        for (Cookie cookie : driver.manage().getCookies()) {
+            writeCookie(session, "cookie." + cookie.getName(), cookie);
+        }
+        Map<String, Object> storage = (Map<String, Object>)
+            ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        storage.forEach((name, value) -> session.setProperty("storage." + name, String.valueOf(value)));
+
+        try {
+            // Written to an owner-only temp file, then moved into place
+            Path temp = createOwnerOnlyFile();
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                session.store(writer, "Session for " + key);
+            }
+            Files.move(temp, fileFor(key), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Could not save session: " + e.getMessage());  // Next run logs in via UI
+        }
+    }
+
+    // Live auth cookies - same rule as CredentialStore, other users can't read them
+    private Path createOwnerOnlyFile() throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempFile(directory, "session", ".tmp");
+        }
+        return Files.createTempFile(directory, "session", ".tmp",
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    }
+
+    // Keeps domain, path, expiry and flags - a bare name/value cookie lands on the wrong scope
+    private static void writeCookie(Properties session, String prefix, Cookie cookie) {
+        session.setProperty(prefix + ".value", cookie.getValue());
+        if (cookie.getDomain() != null) {
+            session.setProperty(prefix + ".domain", cookie.getDomain());
+        }
+        session.setProperty(prefix + ".path", cookie.getPath());
+        if (cookie.getExpiry() != null) {
+            session.setProperty(prefix + ".expiry", Long.toString(cookie.getExpiry().getTime()));
+        }
+        session.setProperty(prefix + ".secure", Boolean.toString(cookie.isSecure()));
+        session.setProperty(prefix + ".httpOnly", Boolean.toString(cookie.isHttpOnly()));
+    }
+
+    private static Cookie readCookie(Properties session, String prefix) {
+        String expiry = session.getProperty(prefix + ".expiry");
+        return new Cookie.Builder(prefix.substring(7), session.getProperty(prefix + ".value"))
+            .domain(session.getProperty(prefix + ".domain"))
+            .path(session.getProperty(prefix + ".path", "/"))
+            .expiresOn(expiry == null ? null : new Date(Long.parseLong(expiry)))
+            .isSecure(Boolean.parseBoolean(session.getProperty(prefix + ".secure")))
+            .isHttpOnly(Boolean.parseBoolean(session.getProperty(prefix + ".httpOnly")))
+            .build();
+    }
+
+    // Drops a session that didn't work, so the next test logs in via UI
+    // Counts as a miss too - the test still paid for a UI login
+    public void invalidate(String key) {
+        invalidations.incrementAndGet();
+        misses.incrementAndGet();
+        try {
+            Files.deleteIfExists(fileFor(key));
+        } catch (IOException e) {
+            System.out.println("Could not delete session: " + e.getMessage());
+        }
+    }
+
+    private Properties load(String key) {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Properties session = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            session.load(reader);
+        } catch (IOException e) {
+            return null;
+        }
+        long capturedAt = Long.parseLong(session.getProperty("capturedAt", "0"));
+        if (System.currentTimeMillis() - capturedAt > ttl.toMillis()) {
+            return null;  // Expired
+        }
+        return session;
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9_.-]", "_") + ".session");
+    }
+
+    // Removes a broken restored session from the browser, back to a logged-out page
+    public void clear(WebDriver driver) {
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+        driver.manage().deleteAllCookies();
+        driver.navigate().refresh();
+    }
+
+    public String report() {
+        int total = hits.get() + misses.get();
+        return String.format("Session cache: %d hits, %d misses, %d invalidated (%.0f%% hit rate)",
+            hits.get(), misses.get(), invalidations.get(),
+            total == 0 ? 0.0 : hits.get() * 100.0 / total);
+    }
+}
+
+/**
+ * Login strategy decorator that reuses a saved session when it can
+ * Falls back to the real UI login on a miss or a broken session
+ */
+class CachedLoginStrategy implements LoginStrategy {
+    private final LoginStrategy delegate;
+    private final SessionCache cache;
+    private final String key;
+    private final Predicate<WebDriver> isLoggedIn;
+
+    public CachedLoginStrategy(LoginStrategy delegate, String user,
+                               SessionCache cache, Predicate<WebDriver> isLoggedIn) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.key = delegate.getClass().getSimpleName() + "-" + user;
+        this.isLoggedIn = isLoggedIn;
+    }
+
+    @Override
+    public void login(WebDriver driver) {
+        boolean restored = false;
+        try {
+            restored = cache.restore(key, driver);
+            if (restored && isLoggedIn.test(driver)) {
+                cache.recordHit();
+                return;  // Logged in without the UI flow
+            }
+        } catch (RuntimeException e) {
+            restored = true;  // Broken session data - treat like an expired session
+        }
+        if (restored) {
+            cache.invalidate(key);
+            cache.clear(driver);  // UI login must not start with the bad cookies
+        }
+        delegate.login(driver);
+        if (isLoggedIn.test(driver)) {
+            cache.capture(key, driver);
+        }
+    }
+}
+
+/**
+ * Outcome of one strategy in a parallel run
+ */
+class LoginResult {
+    final String strategy;
+    final boolean passed;
+    final int attempts;
+    final long durationMillis;   // Last attempt only
+    final Throwable error;
+
+    LoginResult(String strategy, boolean passed, int attempts, long durationMillis, Throwable error) {
+        this.strategy = strategy;
+        this.passed = passed;
+        this.attempts = attempts;
+        this.durationMillis = durationMillis;
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return strategy + ": " + (passed ? "passed" : "failed") + " in " + durationMillis
+            + "ms after " + attempts + " attempt(s)"
+            + (error == null ? "" : " - " + error.getMessage());
+    }
+}
+
+/**
+ * Runs several login strategies at the same time
+ * Each attempt gets its own browser from WebDriverPool
+ * A failed strategy is retried as a new task, so it never holds up the others
+ */
+class ParallelLoginRunner {
+    private final ExecutorService executor;
+    private final WebDriverPool drivers;
+    private final String browserType;
+    private final String loginUrl;
+    private final int maxAttempts;
+
+    public ParallelLoginRunner(ExecutorService executor, WebDriverPool drivers,
+                               String browserType, String loginUrl, int maxAttempts) {
+        this.executor = executor;
+        this.drivers = drivers;
+        this.browserType = browserType;
+        this.loginUrl = loginUrl;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public List<LoginResult> runAll(Collection<LoginStrategy> strategies) {
+        List<CompletableFuture<LoginResult>> running = new ArrayList<>();
+        for (LoginStrategy strategy : strategies) {
+            running.add(attempt(strategy, 1));
+        }
+        return running.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    private CompletableFuture<LoginResult> attempt(LoginStrategy strategy, int attempt) {
+        String name = strategy.getClass().getSimpleName();
+        long start = System.nanoTime();
+        return CompletableFuture.runAsync(() -> loginOnce(strategy), executor)
+            .handle((ignored, error) -> {
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                if (error == null) {
+                    return CompletableFuture.completedFuture(
+                        new LoginResult(name, true, attempt, millis, null));
+                }
+                if (attempt < maxAttempts) {
+                    return attempt(strategy, attempt + 1);  // Retry goes to the back of the queue
+                }
+                return CompletableFuture.completedFuture(
+                    new LoginResult(name, false, attempt, millis, error.getCause()));
+            })
+            .thenCompose(result -> result);
+    }
+
+    private void loginOnce(LoginStrategy strategy) {
+        try {
+            WebDriver driver = drivers.lease(browserType);
+            try {
+                driver.get(loginUrl);
+                resetSession(driver);  // Pooled browser may still be logged in
+                strategy.login(driver);
+            } finally {
+                drivers.release(browserType);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a browser", e);
+        }
+    }
+
+    // Clears cookies and storage for the login site, then reloads it logged out
+    private void resetSession(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+        driver.navigate().refresh();
+    }
+}
+
 /**
  * Main test class that uses login strategies
  * Can switch between different login methods at runtime
@@ -86,7 +381,7 @@ public class LoginTest {
         }
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         LoginTest loginTest = new LoginTest();
 
         // Example 1: Google Login
@@ -102,6 +397,27 @@ public class LoginTest {
         loginTest.performLogin();
 
         loginTest.driver.quit();
+
+        // Example 4: All strategies at once, each on its own browser
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        ParallelLoginRunner runner = new ParallelLoginRunner(executor,
+            WebDriverPool.getInstance(), "chrome", "http://example.com/login", 2);
+        List<LoginResult> results = runner.runAll(Arrays.asList(
+            new GoogleLoginStrategy(),
+            new FacebookLoginStrategy(),
+            new EmailLoginStrategy()));
+        results.forEach(System.out::println);
+        executor.shutdown();
+        WebDriverPool.getInstance().shutdown();
+
+        // Example 5: Reuse a saved session instead of the UI login
+        SessionCache sessions = new SessionCache(Paths.get("target", "sessions"), Duration.ofHours(1));
+        LoginTest cachedLogin = new LoginTest();
+        cachedLogin.setLoginStrategy(new CachedLoginStrategy(new EmailLoginStrategy(), "testUser",
+            sessions, driver -> !driver.findElements(By.id("logoutButton")).isEmpty()));
+        cachedLogin.performLogin();  // UI login first time, restored after that
+        System.out.println(sessions.report());
+        cachedLogin.driver.quit();
     }
 }
 
@@ -120,4 +436,6 @@ public class LoginTest {
  * - Add login validation
  * - Handle different credentials
  * - Add error handling
+ * - Run strategies in parallel with retries (ParallelLoginRunner)
+ * - Skip the UI flow with saved sessions (CachedLoginStrategy)
  */
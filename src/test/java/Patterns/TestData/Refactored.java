@@ -29,18 +29,23 @@ public class UserBuilder {
     private boolean active;
     private LocalDateTime lastLogin;
 
-    private UserBuilder() {
+    private UserBuilder(LocalDateTime lastLogin) {
         // Default values for all fields
         this.username = "defaultUser";
         this.password = "defaultPass123";
         this.role = "USER";
         this.active = true;
-        this.lastLogin = LocalDateTime.now();
+        this.lastLogin = lastLogin;
     }
 
     // Factory method for builder creation
     public static UserBuilder aUser() {
-        return new UserBuilder();
+        return new UserBuilder(LocalDateTime.now());
+    }
+
+    // Bulk creation shares one timestamp instead of calling now() per user
+    static UserBuilder aUserAt(LocalDateTime lastLogin) {
+        return new UserBuilder(lastLogin);
     }
 
     // Builder methods for customization
@@ -106,6 +111,205 @@ public class UserTestDataFactory {
                 .build())
             .collect(Collectors.toList());
     }
+
+    /**
+     * Large fixtures: users built in parallel chunks on the fork-join pool
+     * Same seed always gives the same users, in the same order
+     */
+    public static List<User> bulkUsers(int count, long seed) {
+        LocalDateTime batchTime = LocalDateTime.now();  // One timestamp per batch
+        return IntStream.range(0, count)
+            .parallel()
+            .mapToObj(i -> {
+                SplittableRandom random = BulkUsers.randomFor(seed, i);
+                return UserBuilder.aUserAt(batchTime)
+                    .withUsername("user" + i)
+                    .withRole(BulkUsers.ROLES[random.nextInt(BulkUsers.ROLES.length)])
+                    .withActive(random.nextInt(10) != 0)  // ~10% inactive
+                    .build();
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Millions of users without millions of objects
+     * Returns columns; individual User objects are built only on request
+     */
+    public static BulkUsers bulkUserColumns(int count, long seed) {
+        return new BulkUsers(count, seed);
+    }
+}
+
+/**
+ * Column-oriented (struct-of-arrays) batch of test users
+ * Usernames and emails are derived from the index, so they aren't stored
+ */
+public class BulkUsers {
+    static final String[] ROLES = {"USER", "ADMIN", "MANAGER"};
+
+    private final int count;
+    private final byte[] roles;         // Index into ROLES
+    private final boolean[] active;
+    private final LocalDateTime lastLogin;  // Shared by the whole batch
+
+    BulkUsers(int count, long seed) {
+        this.count = count;
+        this.roles = new byte[count];
+        this.active = new boolean[count];
+        this.lastLogin = LocalDateTime.now();
+
+        // Each index has its own random stream, so chunks can fill in any order
+        IntStream.range(0, count).parallel().forEach(i -> {
+            SplittableRandom random = randomFor(seed, i);
+            roles[i] = (byte) random.nextInt(ROLES.length);
+            active[i] = random.nextInt(10) != 0;
+        });
+    }
+
+    // Deterministic per-index generator, independent of thread scheduling
+    static SplittableRandom randomFor(long seed, int index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+    }
+
+    public int size() { return count; }
+    public String username(int i) { return "user" + i; }
+    public String email(int i) { return "user" + i + "@test.com"; }
+    public String role(int i) { return ROLES[roles[i]]; }
+    public boolean isActive(int i) { return active[i]; }
+    public LocalDateTime lastLogin() { return lastLogin; }
+
+    // Materializes one row when a test really needs a User
+    public User toUser(int i) {
+        return UserBuilder.aUserAt(lastLogin)
+            .withUsername(username(i))
+            .withRole(role(i))
+            .withActive(isActive(i))
+            .build();
+    }
+}
+
+/**
+ * Streams generated users straight to disk
+ * Rows are produced and written one at a time - memory use is constant
+ */
+public class UserDataExporter {
+    static final int MAGIC = 0x55534552;  // "USER"
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * CSV for humans and spreadsheets
+     */
+    public static void writeCsv(Path file, int count, long seed) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            StringBuilder row = new StringBuilder(64);
+            put(channel, buffer, "username,email,role,active\n".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < count; i++) {
+                SplittableRandom random = BulkUsers.randomFor(seed, i);
+                row.setLength(0);
+                row.append("user").append(i).append(',')
+                    .append("user").append(i).append("@test.com,")
+                    .append(BulkUsers.ROLES[random.nextInt(BulkUsers.ROLES.length)]).append(',')
+                    .append(random.nextInt(10) != 0).append('\n');
+                put(channel, buffer, row.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Compact binary format read by MappedUserReader
+     * Header: magic, count, lastLogin (epoch millis)
+     * Record: username length (short), username bytes, role id, active flag
+     * Email is not stored - it follows the username@test.com convention
+     */
+    public static void writeBinary(Path file, int count, long seed) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC)
+                .putInt(count)
+                .putLong(System.currentTimeMillis());
+            for (int i = 0; i < count; i++) {
+                SplittableRandom random = BulkUsers.randomFor(seed, i);
+                byte[] username = ("user" + i).getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < username.length + 4) {
+                    drain(channel, buffer);
+                }
+                buffer.putShort((short) username.length)
+                    .put(username)
+                    .put((byte) random.nextInt(BulkUsers.ROLES.length))
+                    .put((byte) (random.nextInt(10) != 0 ? 1 : 0));
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    private static void put(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+        if (buffer.remaining() < bytes.length) {
+            drain(channel, buffer);
+        }
+        buffer.put(bytes);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
+
+/**
+ * Reads the binary user file through a memory-mapped buffer
+ * Users are decoded one at a time as the test iterates - no upfront load
+ */
+public class MappedUserReader {
+    private final MappedByteBuffer data;
+    private final int count;
+    private final LocalDateTime lastLogin;
+
+    public MappedUserReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            // The mapping stays valid after the channel is closed
+            this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.getInt() != UserDataExporter.MAGIC) {
+            throw new IllegalArgumentException("Not a user data file: " + file);
+        }
+        this.count = data.getInt();
+        this.lastLogin = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(data.getLong()), ZoneId.systemDefault());
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Decodes each record into a User and hands it to the consumer
+     * Safe to call repeatedly; each call reads from the start
+     */
+    public void forEachUser(Consumer<User> consumer) {
+        ByteBuffer records = data.duplicate();  // Own position, shared memory
+        records.position(16);
+        byte[] name = new byte[256];
+        for (int i = 0; i < count; i++) {
+            int length = records.getShort();
+            if (length > name.length) {
+                name = new byte[length];
+            }
+            records.get(name, 0, length);
+            String username = new String(name, 0, length, StandardCharsets.UTF_8);
+            String role = BulkUsers.ROLES[records.get()];
+            boolean active = records.get() == 1;
+            consumer.accept(UserBuilder.aUserAt(lastLogin)
+                .withUsername(username)
+                .withRole(role)
+                .withActive(active)
+                .build());
+        }
+    }
 }
 
 /**
@@ -135,6 +339,16 @@ public class UserTests {
         List<User> users = UserTestDataFactory.multipleUsers(3);
         verifyBulkOperations(users);
     }
+
+    @Test
+    public void testLoadFixture() {
+        // Same seed, same data on every run
+        BulkUsers users = UserTestDataFactory.bulkUserColumns(5_000_000, 42L);
+        long admins = IntStream.range(0, users.size())
+            .filter(i -> "ADMIN".equals(users.role(i)))
+            .count();
+        verifyLoadDistribution(admins, users.size());
+    }
 }
 
 /* Pattern Benefits:
@@ -152,4 +366,10 @@ public class UserTests {
  *    - Easy to create variations
  *    - Support for edge cases
  *    - Bulk data creation
+ *
+ * 4. Load-Test Fixtures:
+ *    - Parallel, seed-deterministic generation
+ *    - One timestamp per batch
+ *    - Columnar form avoids millions of small objects
+ *    - Streamed to CSV/binary files and read back memory-mapped
  */
@@ -51,6 +51,36 @@ class FirefoxBrowser implements WebBrowser {
     }
 }
 
+/**
+ * Test data backed by a binary file from UserDataExporter
+ * Memory-mapped, so large data sets don't have to fit in heap
+ */
+class MappedUserData implements TestData {
+    private final Path dataDirectory;
+    private MappedUserReader reader;
+
+    public MappedUserData(Path dataDirectory) {
+        this.dataDirectory = dataDirectory;
+    }
+
+    @Override
+    public void loadTestData(String dataSet) {
+        try {
+            // Only maps the file - records are decoded as tests use them
+            reader = new MappedUserReader(dataDirectory.resolve(dataSet + ".bin"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load data set: " + dataSet, e);
+        }
+    }
+
+    public void forEachUser(Consumer<User> consumer) {
+        if (reader == null) {
+            throw new IllegalStateException("loadTestData must be called first");
+        }
+        reader.forEachUser(consumer);
+    }
+}
+
 /**
  * Step 3: Main test class that uses abstractions
  * This class doesn't know or care about specific implementations
@@ -105,6 +135,14 @@ public class TestExecution {
 
         testWithChrome.runLoginTest();
         testWithFirefox.runLoginTest();
+
+        // Large generated data set, mapped from disk
+        AutomatedTest testWithMappedData = new AutomatedTest(
+            new ChromeBrowser(),
+            new MappedUserData(Paths.get("testdata")),  // Reads testdata/login_data.bin
+            step -> System.out.println(step)
+        );
+        testWithMappedData.runLoginTest();
     }
 
     @Test
@@ -6,6 +6,18 @@ abstract class Browser {
     // All browsers must implement these methods consistently
     abstract WebDriver launchBrowser();   // Must return a valid WebDriver
     abstract void quitBrowser(WebDriver driver);  // Must properly clean up resources
+
+    /**
+     * Returns the driver to a clean state without closing it
+     * Same for every browser, so subclasses don't need to override it
+     */
+    void resetBrowser(WebDriver driver) {
+        // Storage is per origin, so clear it before leaving the test's site
+        ((JavascriptExecutor) driver).executeScript(
+            "try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+        driver.get("about:blank");
+    }
 }
 
 /**
@@ -70,6 +82,130 @@ class HeadlessBrowser extends Browser {
     }
 }
 
+/**
+ * Per-test, per-browser run history
+ */
+class TestHistory {
+    private final Map<String, Map<Class<? extends Browser>, BrowserStats>> byTest =
+        new ConcurrentHashMap<>();
+    private final Set<String> discrepancySeen = ConcurrentHashMap.newKeySet();  // Sticky
+
+    void record(String testName, Browser browser, boolean passed, long millis) {
+        Map<Class<? extends Browser>, BrowserStats> stats =
+            byTest.computeIfAbsent(testName, t -> new ConcurrentHashMap<>());
+        stats.computeIfAbsent(browser.getClass(), b -> new BrowserStats())
+            .record(passed, millis);
+
+        // Compare with the latest result on the other side (headed vs headless)
+        boolean headless = browser instanceof HeadlessBrowser;
+        boolean differs = stats.entrySet().stream()
+            .filter(entry -> (entry.getKey() == HeadlessBrowser.class) != headless)
+            .anyMatch(entry -> entry.getValue().lastPassed != passed);
+        if (differs) {
+            discrepancySeen.add(testName);
+        }
+    }
+
+    /**
+     * True once the test has passed on one of headed/headless and failed on the other
+     * Stays true, so a later headless pass doesn't send the test back to headless
+     */
+    boolean hasHeadlessDiscrepancy(String testName) {
+        return discrepancySeen.contains(testName);
+    }
+
+    int runs(String testName) {
+        Map<Class<? extends Browser>, BrowserStats> stats = byTest.get(testName);
+        return stats == null ? 0 : stats.values().stream().mapToInt(s -> s.runs).sum();
+    }
+
+    static class BrowserStats {
+        int runs;
+        int passes;
+        long totalMillis;
+        boolean lastPassed;
+
+        synchronized void record(boolean passed, long millis) {
+            runs++;
+            if (passed) {
+                passes++;
+            }
+            totalMillis += millis;
+            lastPassed = passed;
+        }
+    }
+}
+
+/**
+ * Chooses a browser for each test and reuses launched drivers
+ * - Tests go headless unless they have behaved differently headed vs headless
+ * - Every Nth run still uses the requested browser, so discrepancies show up
+ * - Consecutive tests on the same browser type share one driver, reset in between
+ * Works only because every Browser subclass honors the same contract
+ */
+class BrowserScheduler implements AutoCloseable {
+    private final TestHistory history = new TestHistory();
+    private final Browser headless = new HeadlessBrowser();
+    private final int headedSampleRate;
+
+    private Browser activeBrowser;
+    private WebDriver activeDriver;
+
+    public BrowserScheduler(int headedSampleRate) {
+        this.headedSampleRate = headedSampleRate;
+    }
+
+    public void run(String testName, Browser requested, Consumer<WebDriver> test) {
+        Browser browser = choose(testName, requested);
+        WebDriver driver = driverFor(browser);
+
+        long start = System.nanoTime();
+        boolean passed = false;
+        try {
+            test.accept(driver);
+            passed = true;
+        } finally {
+            history.record(testName, browser, passed, (System.nanoTime() - start) / 1_000_000);
+            if (passed) {
+                browser.resetBrowser(driver);  // Keep it for the next test
+            } else {
+                closeActive();                 // Unknown state after a failure
+            }
+        }
+    }
+
+    private Browser choose(String testName, Browser requested) {
+        if (requested instanceof HeadlessBrowser || history.hasHeadlessDiscrepancy(testName)) {
+            return requested;
+        }
+        boolean sampleHeaded = history.runs(testName) % headedSampleRate == headedSampleRate - 1;
+        return sampleHeaded ? requested : headless;
+    }
+
+    private WebDriver driverFor(Browser browser) {
+        if (activeBrowser != null && activeBrowser.getClass() == browser.getClass()) {
+            return activeDriver;
+        }
+        closeActive();
+        activeBrowser = browser;
+        activeDriver = browser.launchBrowser();
+        return activeDriver;
+    }
+
+    private void closeActive() {
+        if (activeDriver != null) {
+            activeBrowser.quitBrowser(activeDriver);
+            activeBrowser = null;
+            activeDriver = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        closeActive();
+    }
+}
+
 /**
  * Test class demonstrating LSP in action
  * This class works with ANY browser type without modification
@@ -92,6 +228,16 @@ public class BrowserTest {
         test.runTest(new ChromeBrowser());     // Works with Chrome
         test.runTest(new FirefoxBrowser());    // Works with Firefox
         test.runTest(new HeadlessBrowser());   // Works with Headless
+
+        // Scheduler picks the browser and reuses drivers between tests
+        try (BrowserScheduler scheduler = new BrowserScheduler(10)) {
+            for (String testName : Arrays.asList("loginTest", "searchTest", "checkoutTest")) {
+                scheduler.run(testName, new ChromeBrowser(), driver -> {
+                    driver.get("http://example.com");
+                    System.out.println("Running " + testName + "...");
+                });
+            }
+        }
     }
 }
 
@@ -108,4 +254,5 @@ public class BrowserTest {
  * 3. Tests are more maintainable and reliable
  * 4. Easy to switch between browser types
  * 5. Reduced risk of bugs when adding new browsers
+ * 6. A scheduler can swap in HeadlessBrowser or reuse drivers safely
  */
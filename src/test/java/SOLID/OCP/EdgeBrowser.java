@@ -0,0 +1,13 @@
+/**
+ * Edge browser implementation
+ * Public with a no-arg constructor so ServiceLoader can create it
+ * Listed in META-INF/services/Browser - no factory changes needed
+ */
+public class EdgeBrowser implements Browser {
+    @Override
+    public WebDriver createDriver() {
+        System.out.println("Setting up Edge browser");
+        // Edge-specific setup can be added here
+        return new EdgeDriver();
+    }
+}
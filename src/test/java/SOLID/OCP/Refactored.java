@@ -10,6 +10,11 @@
  */
 interface Browser {
     WebDriver createDriver();  // Single responsibility: create a WebDriver instance
+
+    // Registry name used when the browser is discovered via ServiceLoader
+    default String name() {
+        return getClass().getSimpleName().replace("Browser", "").toLowerCase();
+    }
 }
 
 /**
@@ -50,31 +55,52 @@ class SafariBrowser implements Browser {
  * New browsers can be added without changing this code
  */
 class BrowserFactory {
-    // Registry of all supported browsers
-    private final Map<String, Browser> browsers = new HashMap<>();
+    /**
+     * Registry of all supported browsers
+     * Copy-on-write: reads never lock, registrations swap in a new map
+     * Case-insensitive ordering means lookups don't lower-case (allocate) the key
+     */
+    private volatile Map<String, Browser> browsers = emptyRegistry();
 
     public BrowserFactory() {
         // Register default browsers
-        browsers.put("chrome", new ChromeBrowser());
-        browsers.put("firefox", new FirefoxBrowser());
-        browsers.put("safari", new SafariBrowser());
+        registerBrowser("chrome", new ChromeBrowser());
+        registerBrowser("firefox", new FirefoxBrowser());
+        registerBrowser("safari", new SafariBrowser());
     }
 
     /**
      * Key method that enables extensibility
-     * New browsers can be added at runtime
+     * New browsers can be added at runtime, even while tests are running
+     */
+    public synchronized void registerBrowser(String name, Browser browser) {
+        Map<String, Browser> updated = emptyRegistry();
+        updated.putAll(browsers);
+        updated.put(name, browser);
+        browsers = updated;
+    }
+
+    /**
+     * Registers every Browser listed in META-INF/services/Browser
+     * New browsers ship as a class plus one line in that file
      */
-    public void registerBrowser(String name, Browser browser) {
-        browsers.put(name.toLowerCase(), browser);
+    public void discoverBrowsers() {
+        for (Browser browser : ServiceLoader.load(Browser.class)) {
+            registerBrowser(browser.name(), browser);
+        }
     }
 
     public Browser getBrowser(String browserType) {
-        Browser browser = browsers.get(browserType.toLowerCase());
+        Browser browser = browsers.get(browserType);
         if (browser == null) {
             throw new IllegalArgumentException("Unsupported browser: " + browserType);
         }
         return browser;
     }
+
+    private static Map<String, Browser> emptyRegistry() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    }
 }
 
 /**
@@ -95,6 +121,30 @@ public class BrowserTest {
         runTest("edge");  // Works seamlessly with new browser
     }
 
+    @Test
+    public void testWithPrewarmedDrivers() {
+        // Any registered Browser can feed the prewarming factory
+        PrewarmingDriverFactory prewarmed = new PrewarmingDriverFactory(
+            type -> factory.getBrowser(type).createDriver(),
+            Executors.newFixedThreadPool(2), 2);
+        prewarmed.expect(Arrays.asList("chrome", "firefox"));
+
+        WebDriver driver = prewarmed.getDriver("chrome");
+        try {
+            driver.get("http://example.com");
+        } finally {
+            driver.quit();
+            prewarmed.shutdown();
+        }
+    }
+
+    @Test
+    public void testWithDiscoveredBrowsers() {
+        // Picks up EdgeBrowser from META-INF/services/Browser - no code change at all
+        factory.discoverBrowsers();
+        runTest("Edge");  // Registered as "edge"; lookup ignores case
+    }
+
     private void runTest(String browserType) {
         Browser browser = factory.getBrowser(browserType);
         WebDriver driver = browser.createDriver();
@@ -113,6 +163,7 @@ public class BrowserTest {
  * 2. BrowserFactory doesn't need modification for new browsers
  * 3. Each new browser is a new class, not a code change
  * 4. Runtime registration allows dynamic browser addition
+ * 5. ServiceLoader discovery adds browsers without touching any code
  *
  * Practical Benefits:
  * 1. Add new browsers without risk to existing code
@@ -122,6 +173,6 @@ public class BrowserTest {
  *
  * Example of Adding New Browser:
  * 1. Create new class implementing Browser interface
- * 2. Register it with BrowserFactory
+ * 2. Register it with BrowserFactory (or list it in META-INF/services/Browser)
  * 3. Existing code continues working unchanged
  */
@@ -8,7 +8,8 @@
  * Changes only when logging requirements change
  */
 class TestLogger {
-    private List<String> logs = new ArrayList<>();
+    // Synchronized so parallel tests can share one logger
+    private List<String> logs = Collections.synchronizedList(new ArrayList<>());
 
     // Core logging functionality
     public void log(String message) {
@@ -27,6 +28,227 @@ class TestLogger {
     }
 }
 
+/**
+ * File sink used by StreamingTestLogger
+ * Buffered NIO writes into numbered segment files, rotated by size
+ */
+class RotatingFileSink implements Closeable {
+    private final Path directory;
+    private final String baseName;
+    private final long maxSegmentBytes;
+    private final int maxSegments;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private FileChannel channel;
+    private int firstSegment;
+    private int currentSegment;
+    private long segmentBytes;
+
+    public RotatingFileSink(Path directory, String baseName,
+                            long maxSegmentBytes, int maxSegments) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.baseName = baseName;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegments = maxSegments;
+        openSegment();
+    }
+
+    public void write(String line) throws IOException {
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        if (segmentBytes + buffer.position() + bytes.length > maxSegmentBytes) {
+            rotate();
+        }
+        if (bytes.length > buffer.remaining()) {
+            flush();
+        }
+        if (bytes.length > buffer.capacity()) {
+            segmentBytes += channel.write(ByteBuffer.wrap(bytes));  // Oversized line
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            segmentBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Segments still on disk, oldest first
+    public List<Path> segments() {
+        List<Path> paths = new ArrayList<>();
+        for (int i = firstSegment; i <= currentSegment; i++) {
+            paths.add(segmentPath(i));
+        }
+        return paths;
+    }
+
+    // Removes all segments and starts again from an empty file
+    public void reset() throws IOException {
+        buffer.clear();
+        channel.close();
+        for (Path segment : segments()) {
+            Files.deleteIfExists(segment);
+        }
+        firstSegment = 0;
+        currentSegment = 0;
+        openSegment();
+    }
+
+    private void rotate() throws IOException {
+        flush();
+        channel.close();
+        currentSegment++;
+        if (currentSegment - firstSegment >= maxSegments) {
+            Files.deleteIfExists(segmentPath(firstSegment++));  // Drop oldest
+        }
+        openSegment();
+    }
+
+    private void openSegment() throws IOException {
+        channel = FileChannel.open(segmentPath(currentSegment),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        segmentBytes = 0;
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(baseName + "-" + segment + ".log");
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+}
+
+/**
+ * Logger for long suites - still only handles logging
+ * log() never blocks; a background thread writes to disk
+ * Memory stays bounded: at most `capacity` messages wait for the writer,
+ * and messages that arrive while the queue is full are dropped and counted
+ */
+class StreamingTestLogger extends TestLogger implements Closeable {
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private final BlockingQueue<String> pending;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final RotatingFileSink sink;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public StreamingTestLogger(RotatingFileSink sink) {
+        this(sink, DEFAULT_CAPACITY);
+    }
+
+    public StreamingTestLogger(RotatingFileSink sink, int capacity) {
+        this.sink = sink;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::writeLoop, "test-logger");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void log(String message) {
+        if (!running) {
+            throw new IllegalStateException("Logger is closed");  // Nothing would write it
+        }
+        if (pending.offer(message)) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();  // Disk can't keep up - don't grow the heap
+        }
+    }
+
+    // Messages lost because the queue was full
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    // Report generation streams from disk, line by line
+    @Override
+    public void generateReport() {
+        awaitWritten();
+        System.out.println("\nTest Report:");
+        if (dropped.get() > 0) {
+            System.out.println("(" + dropped.get() + " messages dropped - log queue was full)");
+        }
+        synchronized (sink) {
+            for (Path segment : sink.segments()) {
+                try (Stream<String> lines = Files.lines(segment)) {
+                    lines.forEach(System.out::println);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clearLogs() {
+        awaitWritten();
+        synchronized (sink) {
+            try {
+                sink.reset();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void writeLoop() {
+        while (running || !pending.isEmpty()) {
+            String message = pending.poll();
+            if (message == null) {
+                LockSupport.parkNanos(1_000_000);  // Idle: check again in 1ms
+                continue;
+            }
+            synchronized (sink) {
+                try {
+                    sink.write(message);
+                    if (pending.isEmpty()) {
+                        sink.flush();  // Batch ends when the queue is drained
+                    }
+                } catch (IOException e) {
+                    System.err.println("Log write failed: " + e.getMessage());
+                }
+            }
+            written.incrementAndGet();
+        }
+    }
+
+    // Waits until everything logged so far is on disk, or the writer has stopped
+    private void awaitWritten() {
+        long target = enqueued.get();
+        while (written.get() < target && writer.isAlive()) {
+            LockSupport.parkNanos(100_000);
+        }
+        synchronized (sink) {
+            try {
+                sink.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sink.close();
+    }
+}
+
 /**
  * Manages only test data
  * Changes only when data handling requirements change
@@ -75,13 +297,32 @@ public class TestFramework {
     private final TestExecutor executor;
 
     public TestFramework() {
+        this(new TestLogger());
+    }
+
+    // Lets long suites plug in a StreamingTestLogger
+    public TestFramework(TestLogger logger) {
+        this(logger, new TestDataManager());
+    }
+
+    // Parallel runs give each test its own data manager
+    TestFramework(TestLogger logger, TestDataManager dataManager) {
         // Initialize each component
-        this.logger = new TestLogger();
-        this.dataManager = new TestDataManager();
+        this.logger = logger;
+        this.dataManager = dataManager;
         this.executor = new TestExecutor();
     }
 
-    public void runTest(String testName) {
+    public boolean runTest(String testName) {
+        try {
+            return execute(testName);
+        } finally {
+            logger.generateReport();     // Reporting
+        }
+    }
+
+    // Runs one test without reporting - the caller decides when to report
+    boolean execute(String testName) {
         try {
             // Each component does its specific job
             logger.log("Test " + testName + " started");
@@ -89,25 +330,122 @@ public class TestFramework {
             executor.executeTestSteps(testName);  // Test execution
             executor.validateResults();           // Validation
             logger.log("Test " + testName + " passed");
+            return true;
         } catch (Exception e) {
             logger.log("Test " + testName + " failed: " + e.getMessage());
+            return false;
         } finally {
             dataManager.cleanUpData();  // Cleanup
-            logger.generateReport();     // Reporting
         }
     }
 }
 
+/**
+ * Remembers how long each test took in previous runs
+ * Used only to decide scheduling order
+ */
+class TestTimingHistory {
+    private final Map<String, Long> millisByTest = new ConcurrentHashMap<>();
+    private final Path file;
+
+    public TestTimingHistory(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            Properties saved = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                saved.load(reader);
+            }
+            saved.forEach((test, millis) ->
+                millisByTest.put((String) test, Long.parseLong((String) millis)));
+        }
+    }
+
+    // Tests never seen before count as longest, so they start early
+    public long expectedMillis(String testName) {
+        return millisByTest.getOrDefault(testName, Long.MAX_VALUE);
+    }
+
+    public void record(String testName, long millis) {
+        millisByTest.put(testName, millis);
+    }
+
+    public void save() throws IOException {
+        Properties saved = new Properties();
+        millisByTest.forEach((test, millis) -> saved.setProperty(test, Long.toString(millis)));
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            saved.store(writer, "Test durations in milliseconds");
+        }
+    }
+}
+
+/**
+ * Runs many tests concurrently - only handles scheduling
+ * Longest expected tests start first so the suite finishes evenly
+ */
+class ParallelTestScheduler {
+    private final TestLogger logger;
+    private final TestTimingHistory history;
+    private final int workers;
+
+    public ParallelTestScheduler(TestLogger logger, TestTimingHistory history, int workers) {
+        this.logger = logger;
+        this.history = history;
+        this.workers = workers;
+    }
+
+    /**
+     * Runs all tests on a work-stealing pool and reports once at the end
+     * @return pass/fail per test name
+     */
+    public Map<String, Boolean> runAll(List<String> testNames) throws InterruptedException {
+        List<String> ordered = new ArrayList<>(testNames);
+        ordered.sort(Comparator.comparingLong(history::expectedMillis).reversed());
+
+        Map<String, Boolean> results = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newWorkStealingPool(workers);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (String testName : ordered) {
+                tasks.add(() -> {
+                    // Fresh data manager per test - no shared data state
+                    TestFramework framework = new TestFramework(logger, new TestDataManager());
+                    long start = System.nanoTime();
+                    results.put(testName, framework.execute(testName));
+                    history.record(testName, (System.nanoTime() - start) / 1_000_000);
+                    return null;
+                });
+            }
+            pool.invokeAll(tasks);
+        } finally {
+            pool.shutdown();
+        }
+
+        logger.generateReport();
+        return results;
+    }
+}
+
 /**
  * Demonstrates how each component can be used independently
  * Shows the benefit of separate responsibilities
  */
 public class TestExample {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Using framework as a whole
         TestFramework framework = new TestFramework();
         framework.runTest("LoginTest");
 
+        // Running a whole suite in parallel
+        TestTimingHistory history = new TestTimingHistory(Paths.get("target", "timings.properties"));
+        ParallelTestScheduler scheduler = new ParallelTestScheduler(
+            new TestLogger(), history, Runtime.getRuntime().availableProcessors());
+        try {
+            scheduler.runAll(Arrays.asList("LoginTest", "CheckoutTest", "SearchTest"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        history.save();  // Next run schedules with these timings
+
         // Using components independently
         TestDataManager dataManager = new TestDataManager();
         dataManager.resetDatabase();  // Can use data management alone
@@ -115,12 +453,20 @@ public class TestExample {
         TestLogger logger = new TestLogger();
         logger.log("Custom log message");  // Can use logging alone
         logger.generateReport();
+
+        // Multi-hour suites: same framework, logs go to rotating files
+        try (StreamingTestLogger streaming = new StreamingTestLogger(
+                new RotatingFileSink(Paths.get("target", "logs"), "test", 16 << 20, 8))) {
+            new TestFramework(streaming).runTest("CheckoutTest");
+        }
     }
 }
 
 /* SRP Benefits Demonstrated Here:
  * 1. Each class has a clear, single purpose:
  *    - TestLogger: Only handles logging
+ *    - RotatingFileSink: Only writes log files
+ *    - ParallelTestScheduler: Only decides where and when tests run
  *    - TestDataManager: Only manages test data
  *    - TestExecutor: Only executes tests
  *